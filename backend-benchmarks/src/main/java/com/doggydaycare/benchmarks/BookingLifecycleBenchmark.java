@@ -0,0 +1,69 @@
+package com.doggydaycare.benchmarks;
+
+import com.doggydaycare.backend.booking.BookingEntity;
+import com.doggydaycare.backend.booking.BookingStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The BookingEntity state machine: a full visit (check in, check out),
+ * a cancellation, and a rejected transition, which pays for building
+ * an IllegalStateException with its stack trace.
+ * Each operation starts from a freshly built CONFIRMED booking.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BookingLifecycleBenchmark {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 7);
+
+    @Benchmark
+    public BookingEntity checkInAndOut() {
+        BookingEntity booking = confirmed();
+        booking.checkIn();
+        booking.checkOut();
+        return booking;
+    }
+
+    @Benchmark
+    public BookingEntity cancel() {
+        BookingEntity booking = confirmed();
+        booking.cancel();
+        return booking;
+    }
+
+    @Benchmark
+    public Object checkOutBeforeCheckInRejected() {
+        BookingEntity booking = confirmed();
+        try {
+            booking.checkOut();
+            return booking;
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    private static BookingEntity confirmed() {
+        return BookingEntity.builder()
+            .date(DATE)
+            .expectedCheckInTime(LocalTime.of(7, 30))
+            .expectedCheckOutTime(LocalTime.of(17, 0))
+            .status(BookingStatus.CONFIRMED)
+            .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.doggydaycare.benchmarks;
+
+import com.doggydaycare.backend.booking.BookingResponse;
+import com.doggydaycare.backend.booking.BookingStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Writing a list endpoint's body: Jackson serialization of BookingResponse lists
+ * at the sizes a day view, a page and the unpaged list return.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingSerializationBenchmark {
+
+    @Param({"50", "200", "1000"})
+    private int bookings;
+
+    private JsonMapper jsonMapper;
+    private List<BookingResponse> responses;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        UUID ownerId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.of(2030, 1, 7, 7, 42);
+        responses = IntStream.range(0, bookings)
+            .mapToObj(i -> new BookingResponse(
+                UUID.randomUUID(), UUID.randomUUID(), "Dog " + i, ownerId,
+                LocalDate.of(2030, 1, 7).plusDays(i % 90),
+                LocalTime.of(7, 30), LocalTime.of(17, 0),
+                i % 2 == 0 ? LocalTime.of(7, 42) : null, null,
+                i % 2 == 0 ? BookingStatus.CHECKED_IN : BookingStatus.CONFIRMED,
+                i % 5 == 0 ? "Give medication at noon" : null,
+                now, now))
+            .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeList() {
+        return jsonMapper.writeValueAsBytes(responses);
+    }
+}
@@ -0,0 +1,86 @@
+package com.doggydaycare.benchmarks;
+
+import com.doggydaycare.backend.auth.JwtProperties;
+import com.doggydaycare.backend.auth.JwtService;
+import com.doggydaycare.backend.auth.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating with a JWT.
+ * <p>
+ * verifySharedParser is what JwtAuthenticationFilter does. verifyParserPerRequest
+ * rebuilds the key and parser on every call, and bcryptPerRequest is what checking
+ * a password on every request would cost; both are there for comparison.
+ * Add -prof gc to see allocations per verification.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String ISSUER = "doggydaycare";
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private String secret;
+    private JwtService jwtService;
+    private String accessToken;
+    private BCryptPasswordEncoder passwordEncoder;
+    private String passwordHash;
+
+    @Setup
+    public void setUp() {
+        secret = Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded());
+        jwtService = new JwtService(new JwtProperties(secret, ISSUER, Duration.ofHours(1), Duration.ofDays(7)));
+
+        UserDetails user = User.withUsername("bench@doggydaycare.com").password("unused").roles("OWNER").build();
+        accessToken = jwtService.issueAccessToken(user);
+
+        passwordEncoder = new BCryptPasswordEncoder();
+        passwordHash = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public VerifiedToken verifySharedParser() {
+        return jwtService.verify(accessToken);
+    }
+
+    @Benchmark
+    public Claims verifyParserPerRequest() {
+        return Jwts.parser()
+            .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+            .requireIssuer(ISSUER)
+            .build()
+            .parseSignedClaims(accessToken)
+            .getPayload();
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public boolean bcryptPerRequest() {
+        return passwordEncoder.matches(PASSWORD, passwordHash);
+    }
+}
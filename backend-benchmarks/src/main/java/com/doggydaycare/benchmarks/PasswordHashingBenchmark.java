@@ -0,0 +1,57 @@
+package com.doggydaycare.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calibrates daycare.security.password.bcrypt-strength.
+ * <p>
+ * Run on hardware like production and pick the highest strength whose hash time
+ * stays around 100 ms; each step up doubles the cost. PBKDF2 with the Spring
+ * Security 5.8 defaults is included for comparison with the alternative encoding id.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"8", "10", "12"})
+    public int bcryptStrength;
+
+    private BCryptPasswordEncoder bcrypt;
+    private Pbkdf2PasswordEncoder pbkdf2;
+
+    @Setup
+    public void setUp() {
+        bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        pbkdf2 = Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+    }
+
+    @Benchmark
+    public String bcrypt() {
+        return bcrypt.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String pbkdf2() {
+        return pbkdf2.encode(PASSWORD);
+    }
+}
@@ -0,0 +1,109 @@
+package com.doggydaycare.benchmarks;
+
+import com.doggydaycare.backend.booking.BookingEntity;
+import com.doggydaycare.backend.booking.BookingResponse;
+import com.doggydaycare.backend.booking.BookingStatus;
+import com.doggydaycare.backend.dog.DogEntity;
+import com.doggydaycare.backend.dog.DogResponse;
+import com.doggydaycare.backend.dog.DogUpdateRequest;
+import com.doggydaycare.backend.user.Role;
+import com.doggydaycare.backend.user.UserEntity;
+import com.doggydaycare.backend.user.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping done for every row the API returns, and the
+ * partial update applied on PUT /dogs/{id}. Entities are built in memory,
+ * so only the mapping is measured. Run with -prof gc for bytes per call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    private UserEntity owner;
+    private DogEntity dog;
+    private BookingEntity booking;
+    private DogUpdateRequest dogUpdate;
+
+    @Setup
+    public void setUp() {
+        owner = UserEntity.builder()
+            .id(UUID.randomUUID())
+            .email("bench@doggydaycare.com")
+            .password("not-used")
+            .firstName("Bench")
+            .lastName("Marker")
+            .mobileNumber("+46700000000")
+            .emergencyContact("+46700000001")
+            .role(Role.OWNER)
+            .enabled(true)
+            .build();
+        dog = DogEntity.builder()
+            .id(UUID.randomUUID())
+            .name("Rex")
+            .age(4)
+            .breed("Border Collie")
+            .dogInfo("Afraid of vacuum cleaners")
+            .user(owner)
+            .build();
+        booking = BookingEntity.builder()
+            .id(UUID.randomUUID())
+            .dog(dog)
+            .bookedBy(owner)
+            .date(LocalDate.of(2030, 1, 7))
+            .expectedCheckInTime(LocalTime.of(7, 30))
+            .expectedCheckOutTime(LocalTime.of(17, 0))
+            .actualCheckInTime(LocalTime.of(7, 42))
+            .status(BookingStatus.CHECKED_IN)
+            .notes("Give medication at noon")
+            .createdAt(LocalDateTime.of(2029, 12, 1, 9, 0))
+            .updatedAt(LocalDateTime.of(2030, 1, 7, 7, 42))
+            .build();
+        dogUpdate = new DogUpdateRequest("Rex", 5, null, "Afraid of vacuum cleaners and thunder");
+    }
+
+    @Benchmark
+    public BookingResponse bookingResponse() {
+        return BookingResponse.from(booking);
+    }
+
+    @Benchmark
+    public DogResponse dogResponse() {
+        return DogResponse.from(dog);
+    }
+
+    @Benchmark
+    public DogEntity dogApplyUpdates() {
+        dogUpdate.applyTo(dog);
+        return dog;
+    }
+
+    @Benchmark
+    public UserResponse userResponse() {
+        return UserResponse.from(owner);
+    }
+
+    @Benchmark
+    public String userFullName() {
+        return owner.getFullName();
+    }
+}
@@ -0,0 +1,152 @@
+package com.doggydaycare.benchmarks;
+
+import org.hibernate.id.uuid.UuidVersion7Strategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput and primary key size with random (v4) versus time-ordered (v7) UUID keys
+ * in a BINARY(16) primary key, like the users, dogs and bookings tables.
+ * <p>
+ * The table is preloaded so inserts land in a large index, then batches are inserted and
+ * committed; the score is rows per second. After each run the table and index size are printed.
+ * Runs on a file-based H2 database in target by default, which has a B-tree primary key but
+ * not InnoDB's page splits and fill factor.
+ * For the real comparison point it at the docker-compose MySQL:
+ * -Djmh.args="UuidKeyInsert -jvmArgsAppend -Dbenchmark.jdbcUrl=jdbc:mysql://localhost:3306/doggydaycare?rewriteBatchedStatements=true"
+ * (with -Dbenchmark.jdbcUser and -Dbenchmark.jdbcPassword as needed).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidKeyInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String TABLE = "uuid_key_benchmark";
+
+    public enum KeyOrder {
+        RANDOM {
+            @Override
+            UUID next() {
+                return UUID.randomUUID();
+            }
+        },
+        TIME_ORDERED {
+            @Override
+            UUID next() {
+                return UuidVersion7Strategy.INSTANCE.generateUuid(null);
+            }
+        };
+
+        abstract UUID next();
+    }
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    public KeyOrder keys;
+
+    @Param({"200000"})
+    public int preloadRows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private boolean mysql;
+    private long inserted;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getProperty("benchmark.jdbcUrl", "jdbc:h2:./target/uuid-keys;MODE=MySQL");
+        connection = DriverManager.getConnection(url,
+            System.getProperty("benchmark.jdbcUser", "root"),
+            System.getProperty("benchmark.jdbcPassword", "rootpassword"));
+        mysql = url.startsWith("jdbc:mysql:");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " ("
+                + "id BINARY(16) NOT NULL, created_at DATETIME(6) NOT NULL, payload VARCHAR(100) NOT NULL, "
+                + "PRIMARY KEY (id))");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO " + TABLE + " (id, created_at, payload) VALUES (?, ?, ?)");
+
+        for (int i = 0; i < preloadRows; i += BATCH_SIZE) {
+            insertBatch();
+        }
+        inserted = 0;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            UUID id = keys.next();
+            insert.setBytes(1, ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array());
+            insert.setObject(2, now);
+            insert.setString(3, "Booking for dog " + i + " with the usual notes about lunch and walks");
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+        inserted += BATCH_SIZE;
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        long rows = preloadRows + inserted;
+        if (mysql) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE TABLE " + TABLE);
+                try (ResultSet size = statement.executeQuery(
+                    "SELECT data_length, index_length FROM information_schema.tables "
+                        + "WHERE table_schema = DATABASE() AND table_name = '" + TABLE + "'")) {
+                    size.next();
+                    // InnoDB stores the rows in the primary key, so data_length is the clustered index
+                    long primaryKey = size.getLong(1);
+                    System.out.printf("%n%s keys: %d rows, primary key %d KiB (%.1f bytes per row), secondary indexes %d KiB%n",
+                        keys, rows, primaryKey / 1024, (double) primaryKey / rows, size.getLong(2) / 1024);
+                }
+            }
+        } else {
+            try (Statement statement = connection.createStatement();
+                 ResultSet size = statement.executeQuery("SELECT DISK_SPACE_USED('" + TABLE + "')")) {
+                size.next();
+                long bytes = size.getLong(1);
+                System.out.printf("%n%s keys: %d rows, table and indexes %d KiB (%.1f bytes per row)%n",
+                    keys, rows, bytes / 1024, (double) bytes / rows);
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+}
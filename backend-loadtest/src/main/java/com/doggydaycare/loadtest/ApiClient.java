@@ -0,0 +1,77 @@
+package com.doggydaycare.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Executors;
+
+/**
+ * Sends requests to the embedded backend and records their latency.
+ * Response bodies are read fully, so streamed exports are timed to the last byte, and discarded
+ * unless the caller needs them.
+ */
+final class ApiClient {
+
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+
+    private final URI baseUri;
+
+    ApiClient(URI baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path)).GET().build();
+    }
+
+    HttpRequest post(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path)).POST(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    }
+
+    /**
+     * Sends the request and returns its status code, or -1 if it failed or was interrupted.
+     */
+    int send(LatencyRecorder recorder, String operation, HttpRequest request) {
+        HttpResponse<Void> response = exchange(recorder, operation, request, HttpResponse.BodyHandlers.discarding());
+        return response == null ? -1 : response.statusCode();
+    }
+
+    /**
+     * Sends the request and returns the body of a 200 response, or null otherwise.
+     */
+    String sendForBody(LatencyRecorder recorder, String operation, HttpRequest request) {
+        HttpResponse<String> response = exchange(recorder, operation, request, HttpResponse.BodyHandlers.ofString());
+        return response != null && response.statusCode() == 200 ? response.body() : null;
+    }
+
+    private <T> HttpResponse<T> exchange(
+        LatencyRecorder recorder, String operation, HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler
+    ) {
+        long start = System.nanoTime();
+        HttpResponse<T> response;
+        try {
+            response = client.send(request, bodyHandler);
+        } catch (IOException e) {
+            response = null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        int status = response == null ? -1 : response.statusCode();
+        // 409 is the expected answer for an already booked dog-day or a full day
+        recorder.record(operation, System.nanoTime() - start, status > 0 && (status < 400 || status == 409));
+        return response;
+    }
+}
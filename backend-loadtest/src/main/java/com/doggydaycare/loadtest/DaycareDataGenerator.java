@@ -0,0 +1,205 @@
+package com.doggydaycare.loadtest;
+
+import com.doggydaycare.backend.analytics.BookingAnalyticsService;
+import com.doggydaycare.backend.booking.BookingEntity;
+import com.doggydaycare.backend.booking.BookingRepository;
+import com.doggydaycare.backend.booking.BookingStatus;
+import com.doggydaycare.backend.config.ScaledDevDataGenerator;
+import com.doggydaycare.backend.dog.DogEntity;
+import com.doggydaycare.backend.dog.DogRepository;
+import com.doggydaycare.backend.user.Role;
+import com.doggydaycare.backend.user.UserEntity;
+import com.doggydaycare.backend.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Seeds a daycare's worth of owners, dogs and years of booking history.
+ * <p>
+ * Owners, dogs and past bookings come from the backend's {@link ScaledDevDataGenerator},
+ * the same generator as the dev profile's --scale=N, so load tests and profiling run
+ * against the same data. On top of that, today's bookings are confirmed and waiting for
+ * check-in and the next weeks are half booked. It runs as an ApplicationRunner, so
+ * everything is written before the capacity counters are loaded at ApplicationReadyEvent,
+ * and the analytics rollups are rebuilt for the added days.
+ * <p>
+ * Scale (properties): loadtest.owners, loadtest.bookingsPerDog, loadtest.todayBookings,
+ * loadtest.futureBookingsPerDay, loadtest.futureDays.
+ */
+class DaycareDataGenerator implements ApplicationRunner {
+
+    private static final int CHUNK_SIZE = 2_000;
+    private static final long SEED = 42;
+
+    private final ScaledDevDataGenerator historyGenerator;
+    private final UserRepository userRepository;
+    private final DogRepository dogRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingAnalyticsService analyticsService;
+    private final TransactionTemplate transaction;
+
+    private final int owners;
+    private final int bookingsPerDog;
+    private final int todayBookings;
+    private final int futureBookingsPerDay;
+    private final int futureDays;
+
+    private volatile TrafficFixture fixture;
+
+    DaycareDataGenerator(
+        ScaledDevDataGenerator historyGenerator,
+        UserRepository userRepository,
+        DogRepository dogRepository,
+        BookingRepository bookingRepository,
+        BookingAnalyticsService analyticsService,
+        PlatformTransactionManager transactionManager,
+        @Value("${loadtest.owners:1200}") int owners,
+        @Value("${loadtest.bookingsPerDog:25}") int bookingsPerDog,
+        @Value("${loadtest.todayBookings:1500}") int todayBookings,
+        @Value("${loadtest.futureBookingsPerDay:60}") int futureBookingsPerDay,
+        @Value("${loadtest.futureDays:30}") int futureDays
+    ) {
+        int dogs = owners * ScaledDevDataGenerator.DOGS_PER_OWNER;
+        if (Math.max(todayBookings, futureBookingsPerDay) > dogs) {
+            throw new IllegalArgumentException("A dog can only be booked once per day; need at least "
+                + Math.max(todayBookings, futureBookingsPerDay) + " dogs, " + owners + " owners have " + dogs);
+        }
+        this.historyGenerator = historyGenerator;
+        this.userRepository = userRepository;
+        this.dogRepository = dogRepository;
+        this.bookingRepository = bookingRepository;
+        this.analyticsService = analyticsService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.owners = owners;
+        this.bookingsPerDog = bookingsPerDog;
+        this.todayBookings = todayBookings;
+        this.futureBookingsPerDay = futureBookingsPerDay;
+        this.futureDays = futureDays;
+    }
+
+    /**
+     * Ids and date range of the seeded data, once the generator has run.
+     */
+    TrafficFixture fixture() {
+        if (fixture == null) {
+            throw new IllegalStateException("Data has not been generated yet");
+        }
+        return fixture;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        Random random = new Random(SEED);
+        LocalDate today = LocalDate.now();
+        LocalDate first = today.minusDays(ScaledDevDataGenerator.HISTORY_DAYS);
+        LocalDate last = today.plusDays(futureDays);
+
+        historyGenerator.generate(owners, bookingsPerDog);
+        List<DogEntity> dogs = generatedDogs();
+
+        List<UUID> todayIds = new ArrayList<>(todayBookings);
+        List<BookingEntity> chunk = new ArrayList<>(CHUNK_SIZE);
+        long bookings = 0;
+        int dayIndex = 0;
+        for (LocalDate date = today; !date.isAfter(last); date = date.plusDays(1), dayIndex++) {
+            int count = bookingsOn(date, today);
+            // Rotate through the dogs, each at most once per day
+            int offset = (int) ((long) dayIndex * 7_919 % dogs.size());
+            for (int i = 0; i < count; i++) {
+                chunk.add(booking(dogs.get((offset + i) % dogs.size()), date, random));
+            }
+            bookings += count;
+            if (chunk.size() >= CHUNK_SIZE || date.equals(today)) {
+                List<BookingEntity> saved = saveBookings(chunk);
+                if (date.equals(today)) {
+                    saved.forEach(b -> todayIds.add(b.getId()));
+                }
+                chunk.clear();
+            }
+        }
+        saveBookings(chunk);
+
+        // The history generator rebuilt the past; these days were written around BookingService
+        analyticsService.reconcile(today, last);
+
+        fixture = new TrafficFixture(
+            dogs.stream().map(DogEntity::getId).toList(),
+            dogs.stream().map(dog -> dog.getUser().getId()).toList(),
+            todayIds,
+            first,
+            last
+        );
+        System.out.printf("Seeded %d owners and %d dogs with history from %s, and %d bookings up to %s in %.1f s%n",
+            owners, dogs.size(), first, bookings, last, (System.nanoTime() - start) / 1e9);
+    }
+
+    /**
+     * The generated owners' dogs in owner order, leaving out the dev profile's own sample data.
+     */
+    private List<DogEntity> generatedDogs() {
+        Map<String, Integer> ownerIndex = new HashMap<>();
+        for (int i = 0; i < owners; i++) {
+            ownerIndex.put(ScaledDevDataGenerator.emailFor(i), i);
+        }
+        Map<UUID, Integer> ownerOrder = new HashMap<>();
+        for (UserEntity owner : userRepository.findByRoleAndDeletedFalse(Role.OWNER)) {
+            Integer index = ownerIndex.get(owner.getEmail());
+            if (index != null) {
+                ownerOrder.put(owner.getId(), index);
+            }
+        }
+        return dogRepository.findAll().stream()
+            .filter(dog -> dog.getUser() != null && ownerOrder.containsKey(dog.getUser().getId()))
+            .sorted(Comparator.<DogEntity>comparingInt(dog -> ownerOrder.get(dog.getUser().getId()))
+                .thenComparing(DogEntity::getName))
+            .toList();
+    }
+
+    /* =======================
+       Bookings
+       ======================= */
+
+    private int bookingsOn(LocalDate date, LocalDate today) {
+        if (date.equals(today)) {
+            return todayBookings;
+        }
+        if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            return 0;
+        }
+        // Leave room in the coming weeks for owners to book during the run
+        return futureBookingsPerDay;
+    }
+
+    private static BookingEntity booking(DogEntity dog, LocalDate date, Random random) {
+        return BookingEntity.builder()
+            .date(date)
+            .expectedCheckInTime(LocalTime.of(7, 0).plusMinutes(30L * random.nextInt(5)))
+            .expectedCheckOutTime(LocalTime.of(15, 0).plusMinutes(30L * random.nextInt(6)))
+            .status(BookingStatus.CONFIRMED)
+            .dog(dog)
+            .bookedBy(dog.getUser())
+            .build();
+    }
+
+    private List<BookingEntity> saveBookings(List<BookingEntity> chunk) {
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
+        return transaction.execute(status -> bookingRepository.saveAll(chunk));
+    }
+}
@@ -0,0 +1,68 @@
+package com.doggydaycare.loadtest;
+
+import com.doggydaycare.backend.BackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the backend in-process against an in-memory H2 database,
+ * with request handling on either platform or virtual threads.
+ */
+final class EmbeddedBackend implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final URI baseUri;
+
+    private EmbeddedBackend(ConfigurableApplicationContext context) {
+        this.context = context;
+        String port = context.getEnvironment().getProperty("local.server.port");
+        this.baseUri = URI.create("http://localhost:" + port + "/api/v1");
+    }
+
+    static EmbeddedBackend start(ThreadingMode mode, String... extraArgs) {
+        return start(mode, List.of(), extraArgs);
+    }
+
+    /**
+     * Starts the backend with additional beans, e.g. a data generator
+     * that must run before the application reports ready.
+     */
+    static EmbeddedBackend start(ThreadingMode mode, List<Class<?>> extraSources, String... extraArgs) {
+        // Passed as command line arguments so they win over application.yml
+        List<String> args = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:loadtest-" + mode.name().toLowerCase()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            // The Flyway migrations target MySQL; let Hibernate build the H2 schema
+            "--spring.flyway.enabled=false",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.threads.virtual.enabled=" + (mode == ThreadingMode.VIRTUAL),
+            "--logging.level.root=WARN"
+        ));
+        args.addAll(List.of(extraArgs));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+            .sources(extraSources.toArray(Class<?>[]::new))
+            .run(args.toArray(String[]::new));
+        return new EmbeddedBackend(context);
+    }
+
+    URI baseUri() {
+        return baseUri;
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
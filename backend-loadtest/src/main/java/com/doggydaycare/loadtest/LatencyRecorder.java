@@ -0,0 +1,63 @@
+package com.doggydaycare.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects per-operation latencies and error counts from many client threads.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> samples = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(String operation, long nanos, boolean success) {
+        samples.computeIfAbsent(operation, key -> new ConcurrentLinkedQueue<>()).add(nanos);
+        if (!success) {
+            errors.computeIfAbsent(operation, key -> new LongAdder()).increment();
+        }
+    }
+
+    List<OperationStats> summarize(double elapsedSeconds) {
+        List<OperationStats> stats = new ArrayList<>();
+        samples.forEach((operation, queue) -> {
+            long[] sorted = queue.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            LongAdder errorCount = errors.get(operation);
+            stats.add(new OperationStats(
+                operation,
+                sorted.length,
+                errorCount == null ? 0 : errorCount.sum(),
+                sorted.length / elapsedSeconds,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0
+            ));
+        });
+        stats.sort((a, b) -> a.operation().compareTo(b.operation()));
+        return stats;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.clamp(index, 0, sorted.length - 1)] / 1_000_000.0;
+    }
+
+    record OperationStats(
+        String operation,
+        long requests,
+        long errors,
+        double throughputPerSecond,
+        double p50Millis,
+        double p99Millis,
+        double maxMillis
+    ) {}
+}
@@ -0,0 +1,154 @@
+package com.doggydaycare.loadtest;
+
+import com.doggydaycare.backend.dog.DogEntity;
+import com.doggydaycare.backend.dog.DogRepository;
+import com.doggydaycare.backend.user.Role;
+import com.doggydaycare.backend.user.UserEntity;
+import com.doggydaycare.backend.user.UserRepository;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the booking endpoints under platform and virtual request threads.
+ * <p>
+ * For each mode the backend is started against a fresh H2 database, seeded with dogs,
+ * and hit by concurrent clients for a warm-up and a measured phase. Latency percentiles
+ * and throughput per endpoint are printed and written to target/loadtest-report.csv.
+ * <p>
+ * Tunables (system properties): loadtest.clients, loadtest.dogs,
+ * loadtest.warmupSeconds, loadtest.durationSeconds.
+ */
+public final class LoadTestRunner {
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 200);
+    private static final int DOGS = Integer.getInteger("loadtest.dogs", 200);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 30);
+    private static final int BOOKING_HORIZON_DAYS = 90;
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> report = new ArrayList<>();
+        report.add("mode,operation,requests,errors,throughput_per_s,p50_ms,p99_ms,max_ms");
+
+        for (ThreadingMode mode : ThreadingMode.values()) {
+            List<LatencyRecorder.OperationStats> stats = run(mode);
+            print(mode, stats);
+            stats.forEach(s -> report.add(String.format("%s,%s,%d,%d,%.1f,%.2f,%.2f,%.2f",
+                mode, s.operation(), s.requests(), s.errors(),
+                s.throughputPerSecond(), s.p50Millis(), s.p99Millis(), s.maxMillis())));
+        }
+
+        Path output = Path.of("target", "loadtest-report.csv");
+        Files.createDirectories(output.getParent());
+        Files.write(output, report);
+        System.out.println("Report written to " + output.toAbsolutePath());
+    }
+
+    private static List<LatencyRecorder.OperationStats> run(ThreadingMode mode) throws InterruptedException {
+        try (EmbeddedBackend backend = EmbeddedBackend.start(mode)) {
+            Fixture fixture = seed(backend);
+            ApiClient client = new ApiClient(backend.baseUri());
+
+            drive(client, fixture, new LatencyRecorder(), WARMUP_SECONDS);
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            drive(client, fixture, recorder, DURATION_SECONDS);
+            return recorder.summarize(DURATION_SECONDS);
+        }
+    }
+
+    /* =======================
+       Fixture
+       ======================= */
+
+    private record Fixture(UUID ownerId, List<UUID> dogIds) {}
+
+    private static Fixture seed(EmbeddedBackend backend) {
+        UserEntity owner = backend.bean(UserRepository.class).save(UserEntity.builder()
+            .email("loadtest@doggydaycare.com")
+            .password("not-used")
+            .firstName("Load")
+            .lastName("Test")
+            .role(Role.OWNER)
+            .enabled(true)
+            .build());
+
+        List<DogEntity> dogs = IntStream.range(0, DOGS)
+            .mapToObj(i -> DogEntity.builder().name("Load dog " + i).age(i % 15).user(owner).build())
+            .toList();
+        List<UUID> dogIds = backend.bean(DogRepository.class).saveAll(dogs).stream()
+            .map(DogEntity::getId)
+            .toList();
+
+        return new Fixture(owner.getId(), dogIds);
+    }
+
+    /* =======================
+       Traffic
+       ======================= */
+
+    private static void drive(
+        ApiClient client, Fixture fixture, LatencyRecorder recorder, int seconds
+    ) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        sendOne(client, fixture, recorder);
+                    }
+                });
+            }
+        }
+    }
+
+    private static void sendOne(ApiClient client, Fixture fixture, LatencyRecorder recorder) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate date = LocalDate.now().plusDays(random.nextInt(BOOKING_HORIZON_DAYS));
+        int roll = random.nextInt(100);
+
+        if (roll < 40) {
+            client.send(recorder, "GET /bookings/date", client.get("/bookings/date/" + date));
+        } else if (roll < 60) {
+            client.send(recorder, "GET /bookings/page", client.get("/bookings/page?size=50"));
+        } else if (roll < 70) {
+            client.send(recorder, "GET /bookings/capacity", client.get("/bookings/capacity/" + date));
+        } else {
+            UUID dogId = fixture.dogIds().get(random.nextInt(fixture.dogIds().size()));
+            String body = """
+                {"dogId":"%s","bookedById":"%s","date":"%s",
+                 "expectedCheckInTime":"08:00","expectedCheckOutTime":"16:00"}
+                """.formatted(dogId, fixture.ownerId(), date);
+            client.send(recorder, "POST /bookings", client.post("/bookings", body));
+        }
+    }
+
+    /* =======================
+       Output
+       ======================= */
+
+    private static void print(ThreadingMode mode, List<LatencyRecorder.OperationStats> stats) {
+        System.out.printf("%n== %s threads, %d clients, %d s ==%n", mode, CLIENTS, DURATION_SECONDS);
+        System.out.printf("%-24s %9s %7s %10s %9s %9s %9s%n",
+            "operation", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        for (LatencyRecorder.OperationStats s : stats) {
+            System.out.printf("%-24s %9d %7d %10.1f %9.2f %9.2f %9.2f%n",
+                s.operation(), s.requests(), s.errors(),
+                s.throughputPerSecond(), s.p50Millis(), s.p99Millis(), s.maxMillis());
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.doggydaycare.loadtest;
+
+enum ThreadingMode {
+    PLATFORM,
+    VIRTUAL
+}
@@ -0,0 +1,22 @@
+package com.doggydaycare.loadtest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * What {@link DaycareDataGenerator} seeded: dog ids with their owners' ids at the same
+ * index, today's confirmed bookings waiting for check-in, and the first and last booked dates.
+ */
+record TrafficFixture(
+    List<UUID> dogIds,
+    List<UUID> dogOwnerIds,
+    List<UUID> todayBookingIds,
+    LocalDate firstDate,
+    LocalDate lastDate
+) {
+
+    UUID ownerOf(int dogIndex) {
+        return dogOwnerIds.get(dogIndex);
+    }
+}
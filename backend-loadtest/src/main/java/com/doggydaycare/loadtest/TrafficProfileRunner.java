@@ -0,0 +1,284 @@
+package com.doggydaycare.loadtest;
+
+import com.doggydaycare.backend.config.ScaledDevDataGenerator;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Replays a daycare day against the users, dogs and bookings endpoints.
+ * <p>
+ * The backend is started against a fresh H2 database and seeded by {@link DaycareDataGenerator}.
+ * The day then runs as four traffic profiles, one after the other:
+ * <ul>
+ *   <li>morning check-in: staff check in today's bookings, singly and in batches, and poll the roster</li>
+ *   <li>owner browsing: owners look at their dogs and bookings and book the coming weeks,
+ *       once per step in loadtest.ownerClients to show where latency starts to climb</li>
+ *   <li>admin exports: quarterly CSV exports, occupancy and no-show reports, paged lists
+ *       (the bookings page is walked with its keyset cursor, shared by the admin clients)</li>
+ *   <li>evening check-out: staff check out everyone checked in this morning</li>
+ * </ul>
+ * The check-in and check-out profiles end early once their queue is empty. Latency percentiles
+ * and throughput per profile and endpoint are printed and written to target/traffic-report.csv.
+ * <p>
+ * Tunables (system properties): loadtest.threads (PLATFORM or VIRTUAL), loadtest.staffClients,
+ * loadtest.ownerClients (comma separated steps), loadtest.adminClients, loadtest.warmupSeconds,
+ * loadtest.phaseSeconds, plus the scale properties of {@link DaycareDataGenerator}.
+ * The backend runs with the dev profile, which provides the data generator and seeds its few sample users.
+ * Run with -Dloadtest.mainClass=com.doggydaycare.loadtest.TrafficProfileRunner.
+ */
+public final class TrafficProfileRunner {
+
+    private static final ThreadingMode THREADS = ThreadingMode.valueOf(System.getProperty("loadtest.threads", "VIRTUAL"));
+    private static final int STAFF_CLIENTS = Integer.getInteger("loadtest.staffClients", 8);
+    private static final int ADMIN_CLIENTS = Integer.getInteger("loadtest.adminClients", 4);
+    private static final List<Integer> OWNER_CLIENT_STEPS = Arrays.stream(System.getProperty("loadtest.ownerClients", "25,100")
+        .split(",")).map(String::trim).map(Integer::valueOf).toList();
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 5);
+    private static final int PHASE_SECONDS = Integer.getInteger("loadtest.phaseSeconds", 20);
+    private static final int DOGS = Integer.getInteger("loadtest.owners", 1200) * ScaledDevDataGenerator.DOGS_PER_OWNER;
+    private static final int CHECK_IN_BATCH = 10;
+    private static final int EXPORT_DAYS = 90;
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private final ApiClient client;
+    private final TrafficFixture fixture;
+    private final LocalDate today = LocalDate.now();
+    private final Queue<UUID> awaitingCheckIn = new ConcurrentLinkedQueue<>();
+    private final Queue<UUID> checkedIn = new ConcurrentLinkedQueue<>();
+    /** Query parameters for the next bookings page, empty for the first one. */
+    private final AtomicReference<String> bookingPageCursor = new AtomicReference<>("");
+
+    private TrafficProfileRunner(ApiClient client, TrafficFixture fixture) {
+        this.client = client;
+        this.fixture = fixture;
+        List<UUID> arrivals = new ArrayList<>(fixture.todayBookingIds());
+        Collections.shuffle(arrivals);
+        awaitingCheckIn.addAll(arrivals);
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<PhaseResult> results;
+        // A dog is booked at most once per day, so the dog count is a limit the seeded data never hits
+        try (EmbeddedBackend backend = EmbeddedBackend.start(THREADS, List.of(DaycareDataGenerator.class),
+            "--spring.profiles.active=dev",
+            "--daycare.capacity.daily-limit=" + DOGS,
+            "--daycare.capacity.slot-limit=" + DOGS
+        )) {
+            TrafficFixture fixture = backend.bean(DaycareDataGenerator.class).fixture();
+            results = new TrafficProfileRunner(new ApiClient(backend.baseUri()), fixture).runDay();
+        }
+
+        List<String> report = new ArrayList<>();
+        report.add("profile,clients,operation,requests,errors,throughput_per_s,p50_ms,p99_ms,max_ms");
+        for (PhaseResult result : results) {
+            print(result);
+            result.stats().forEach(s -> report.add(String.format("%s,%d,%s,%d,%d,%.1f,%.2f,%.2f,%.2f",
+                result.profile(), result.clients(), s.operation(), s.requests(), s.errors(),
+                s.throughputPerSecond(), s.p50Millis(), s.p99Millis(), s.maxMillis())));
+        }
+
+        Path output = Path.of("target", "traffic-report.csv");
+        Files.createDirectories(output.getParent());
+        Files.write(output, report);
+        System.out.println("Report written to " + output.toAbsolutePath());
+    }
+
+    private List<PhaseResult> runDay() throws InterruptedException {
+        // Warm up on the read-only profiles so the check-in queue is left untouched
+        runPhase("warm-up", OWNER_CLIENT_STEPS.getFirst(), WARMUP_SECONDS, () -> false, this::ownerBrowsing);
+        runPhase("warm-up", ADMIN_CLIENTS, WARMUP_SECONDS, () -> false, this::adminExports);
+
+        List<PhaseResult> results = new ArrayList<>();
+        results.add(runPhase("morning-check-in", STAFF_CLIENTS, PHASE_SECONDS,
+            awaitingCheckIn::isEmpty, this::morningCheckIn));
+        for (int clients : OWNER_CLIENT_STEPS) {
+            results.add(runPhase("owner-browsing", clients, PHASE_SECONDS, () -> false, this::ownerBrowsing));
+        }
+        results.add(runPhase("admin-exports", ADMIN_CLIENTS, PHASE_SECONDS, () -> false, this::adminExports));
+        results.add(runPhase("evening-check-out", STAFF_CLIENTS, PHASE_SECONDS,
+            checkedIn::isEmpty, this::eveningCheckOut));
+        return results;
+    }
+
+    /* =======================
+       Profiles
+       ======================= */
+
+    private void morningCheckIn(LatencyRecorder recorder) {
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        if (roll < 15) {
+            client.send(recorder, "GET /bookings/roster", client.get("/bookings/roster/" + today));
+        } else if (roll < 45) {
+            UUID id = awaitingCheckIn.poll();
+            if (id != null && client.send(recorder, "POST /bookings/{id}/check-in",
+                client.post("/bookings/" + id + "/check-in")) == 200) {
+                checkedIn.add(id);
+            }
+        } else {
+            List<UUID> batch = take(awaitingCheckIn);
+            if (!batch.isEmpty() && client.send(recorder, "POST /bookings/check-in",
+                client.post("/bookings/check-in", batchBody(batch))) == 200) {
+                checkedIn.addAll(batch);
+            }
+        }
+    }
+
+    private void ownerBrowsing(LatencyRecorder recorder) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int dogIndex = random.nextInt(fixture.dogIds().size());
+        UUID dogId = fixture.dogIds().get(dogIndex);
+        UUID ownerId = fixture.ownerOf(dogIndex);
+        int roll = random.nextInt(100);
+
+        if (roll < 20) {
+            client.send(recorder, "GET /users/{id}/dogs", client.get("/users/" + ownerId + "/dogs"));
+        } else if (roll < 45) {
+            client.send(recorder, "GET /bookings/user", client.get("/bookings/user/" + ownerId));
+        } else if (roll < 60) {
+            client.send(recorder, "GET /bookings/dog", client.get("/bookings/dog/" + dogId));
+        } else if (roll < 70) {
+            client.send(recorder, "GET /dogs/{id}", client.get("/dogs/" + dogId));
+        } else if (roll < 78) {
+            client.send(recorder, "GET /users/{id}", client.get("/users/" + ownerId));
+        } else if (roll < 88) {
+            client.send(recorder, "GET /bookings/capacity", client.get("/bookings/capacity/" + futureDate(random)));
+        } else {
+            String body = """
+                {"dogId":"%s","bookedById":"%s","date":"%s",
+                 "expectedCheckInTime":"08:00","expectedCheckOutTime":"16:00"}
+                """.formatted(dogId, ownerId, futureDate(random));
+            client.send(recorder, "POST /bookings", client.post("/bookings", body));
+        }
+    }
+
+    private void adminExports(LatencyRecorder recorder) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(100);
+
+        if (roll < 25) {
+            LocalDate from = pastDate(random);
+            client.send(recorder, "GET /bookings/export", client.get(
+                "/bookings/export?from=" + from + "&to=" + from.plusDays(EXPORT_DAYS - 1) + "&format=CSV"));
+        } else if (roll < 45) {
+            LocalDate from = pastDate(random);
+            client.send(recorder, "GET /analytics/occupancy", client.get(
+                "/analytics/occupancy?from=" + from + "&to=" + from.plusDays(EXPORT_DAYS - 1)));
+        } else if (roll < 60) {
+            client.send(recorder, "GET /analytics/no-shows", client.get("/analytics/no-shows?limit=20"));
+        } else if (roll < 75) {
+            client.send(recorder, "GET /users", client.get("/users"));
+        } else if (roll < 90) {
+            // Keyset paging: continue after the last row of the previous page, from the start after the last page
+            String page = client.sendForBody(recorder, "GET /bookings/page",
+                client.get("/bookings/page?size=100" + bookingPageCursor.get()));
+            if (page != null) {
+                bookingPageCursor.set(nextPageCursor(page));
+            }
+        } else {
+            client.send(recorder, "GET /dogs/page", client.get("/dogs/page?page=" + random.nextInt(20) + "&size=100"));
+        }
+    }
+
+    private void eveningCheckOut(LatencyRecorder recorder) {
+        if (ThreadLocalRandom.current().nextInt(100) < 15) {
+            client.send(recorder, "GET /bookings/roster", client.get("/bookings/roster/" + today));
+            return;
+        }
+        List<UUID> batch = take(checkedIn);
+        if (!batch.isEmpty()) {
+            client.send(recorder, "POST /bookings/check-out", client.post("/bookings/check-out", batchBody(batch)));
+        }
+    }
+
+    private LocalDate futureDate(ThreadLocalRandom random) {
+        return today.plusDays(1 + random.nextLong(Math.max(1, ChronoUnit.DAYS.between(today, fixture.lastDate()))));
+    }
+
+    private LocalDate pastDate(ThreadLocalRandom random) {
+        long days = ChronoUnit.DAYS.between(fixture.firstDate(), today) - EXPORT_DAYS;
+        return fixture.firstDate().plusDays(random.nextLong(Math.max(1, days)));
+    }
+
+    private static String nextPageCursor(String page) {
+        JsonNode body = JSON.readTree(page);
+        if (!body.path("hasNext").asBoolean()) {
+            return "";
+        }
+        return "&afterDate=" + body.path("nextAfterDate").asString() + "&afterId=" + body.path("nextAfterId").asString();
+    }
+
+    private static List<UUID> take(Queue<UUID> queue) {
+        List<UUID> batch = new ArrayList<>(CHECK_IN_BATCH);
+        UUID id;
+        while (batch.size() < CHECK_IN_BATCH && (id = queue.poll()) != null) {
+            batch.add(id);
+        }
+        return batch;
+    }
+
+    private static String batchBody(List<UUID> ids) {
+        return ids.stream().map(id -> "\"" + id + "\"").collect(Collectors.joining(",", "{\"bookingIds\":[", "]}"));
+    }
+
+    /* =======================
+       Phases
+       ======================= */
+
+    private record PhaseResult(String profile, int clients, double seconds, List<LatencyRecorder.OperationStats> stats) {}
+
+    private static PhaseResult runPhase(
+        String profile, int clients, int seconds, BooleanSupplier drained, Consumer<LatencyRecorder> step
+    ) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        long start = System.nanoTime();
+        long deadline = start + Duration.ofSeconds(seconds).toNanos();
+
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                pool.submit(() -> {
+                    while (System.nanoTime() < deadline && !drained.getAsBoolean()) {
+                        step.accept(recorder);
+                    }
+                });
+            }
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        return new PhaseResult(profile, clients, elapsed, recorder.summarize(elapsed));
+    }
+
+    /* =======================
+       Output
+       ======================= */
+
+    private static void print(PhaseResult result) {
+        System.out.printf("%n== %s, %d clients, %.1f s, %s threads ==%n",
+            result.profile(), result.clients(), result.seconds(), THREADS);
+        System.out.printf("%-30s %9s %7s %10s %9s %9s %9s%n",
+            "operation", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        for (LatencyRecorder.OperationStats s : result.stats()) {
+            System.out.printf("%-30s %9d %7d %10.1f %9.2f %9.2f %9.2f%n",
+                s.operation(), s.requests(), s.errors(),
+                s.throughputPerSecond(), s.p50Millis(), s.p99Millis(), s.maxMillis());
+        }
+    }
+}
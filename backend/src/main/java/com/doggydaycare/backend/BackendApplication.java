@@ -2,9 +2,13 @@ package com.doggydaycare.backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 //Starting point for the application
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class BackendApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,46 @@
+package com.doggydaycare.backend.analytics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final BookingAnalyticsService analyticsService;
+
+    /**
+     * Returns bookings by status, utilisation and average stay length
+     * per day, per week and in total for a date range of up to a year.
+     */
+    @GetMapping("/occupancy")
+    public ResponseEntity<OccupancyReportResponse> getOccupancyReport(
+        @RequestParam
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate from,
+        @RequestParam
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate to
+    ) {
+        return ResponseEntity.ok(analyticsService.getOccupancyReport(from, to));
+    }
+
+    /**
+     * Returns the dog owners with the most no-shows and their no-show rate.
+     */
+    @GetMapping("/no-shows")
+    public ResponseEntity<List<OwnerNoShowResponse>> getTopNoShows(
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(analyticsService.getTopNoShows(limit));
+    }
+}
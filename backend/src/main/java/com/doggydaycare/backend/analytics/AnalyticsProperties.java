@@ -0,0 +1,18 @@
+package com.doggydaycare.backend.analytics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Analytics settings.
+ *
+ * @param maxRangeDays       longest date range one occupancy report may cover
+ * @param reconcileDaysBack  past days whose daily rollups are checked every night
+ * @param reconcileDaysAhead future days whose daily rollups are checked every night
+ */
+@ConfigurationProperties(prefix = "daycare.analytics")
+public record AnalyticsProperties(
+    @DefaultValue("366") int maxRangeDays,
+    @DefaultValue("90") int reconcileDaysBack,
+    @DefaultValue("366") int reconcileDaysAhead
+) {}
@@ -0,0 +1,207 @@
+package com.doggydaycare.backend.analytics;
+
+import com.doggydaycare.backend.booking.BookingStatus;
+import com.doggydaycare.backend.booking.CapacityProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Occupancy and no-show analytics read from the rollup tables.
+ * <p>
+ * A report reads at most one row per day in its range; bookings themselves are
+ * only scanned by the nightly {@link #reconcileRecent() reconciliation}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BookingAnalyticsService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BookingAnalyticsService.class);
+    private static final int MAX_NO_SHOW_OWNERS = 100;
+
+    private final BookingDailyStatsRepository dailyStatsRepository;
+    private final OwnerBookingStatsRepository ownerStatsRepository;
+    private final BookingStatsWriter writer;
+    private final CapacityProperties capacityProperties;
+    private final AnalyticsProperties properties;
+
+    public BookingAnalyticsService(
+        BookingDailyStatsRepository dailyStatsRepository,
+        OwnerBookingStatsRepository ownerStatsRepository,
+        BookingStatsWriter writer,
+        CapacityProperties capacityProperties,
+        AnalyticsProperties properties
+    ) {
+        this.dailyStatsRepository = dailyStatsRepository;
+        this.ownerStatsRepository = ownerStatsRepository;
+        this.writer = writer;
+        this.capacityProperties = capacityProperties;
+        this.properties = properties;
+    }
+
+    /* =======================
+       Read
+       ======================= */
+
+    /**
+     * Returns occupancy per day, per week and in total for the range (both ends included).
+     */
+    public OccupancyReportResponse getOccupancyReport(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("to must not be before from");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > properties.maxRangeDays()) {
+            throw new IllegalArgumentException(
+                "A report may cover at most " + properties.maxRangeDays() + " days"
+            );
+        }
+
+        Map<LocalDate, BookingDailyStatsEntity> rows = dailyStatsRepository.findByDateBetweenOrderByDate(from, to)
+            .stream()
+            .collect(Collectors.toMap(BookingDailyStatsEntity::getDate, Function.identity()));
+
+        StatsAccumulator total = new StatsAccumulator(from, to);
+        Map<LocalDate, StatsAccumulator> weeks = new TreeMap<>();
+        List<OccupancyStatsResponse> days = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            BookingDailyStatsEntity row = rows.get(date);
+            days.add(new StatsAccumulator(date, date).add(date, row).toResponse());
+            total.add(date, row);
+            weeks.computeIfAbsent(date.with(DayOfWeek.MONDAY), monday -> new StatsAccumulator(
+                monday.isBefore(from) ? from : monday,
+                monday.plusDays(6).isAfter(to) ? to : monday.plusDays(6)
+            )).add(date, row);
+        }
+
+        return new OccupancyReportResponse(
+            from,
+            to,
+            total.toResponse(),
+            weeks.values().stream().map(StatsAccumulator::toResponse).toList(),
+            days
+        );
+    }
+
+    /**
+     * Returns the owners with the most no-shows.
+     */
+    public List<OwnerNoShowResponse> getTopNoShows(int limit) {
+        return ownerStatsRepository.findTopNoShows(Limit.of(Math.clamp(limit, 1, MAX_NO_SHOW_OWNERS)));
+    }
+
+    /* =======================
+       Reconciliation
+       ======================= */
+
+    /**
+     * Recomputes the daily rollups around today, and the owner rollups of owners
+     * booked in that window, from the bookings table and fixes rows that drifted,
+     * e.g. after bookings were changed outside BookingService. Called nightly by
+     * the booking scheduled task.
+     */
+    @Transactional
+    public void reconcileRecent() {
+        LocalDate today = LocalDate.now();
+        reconcile(today.minusDays(properties.reconcileDaysBack()), today.plusDays(properties.reconcileDaysAhead()));
+    }
+
+    /**
+     * The counts are aggregated by the database, so this reads one row per day and
+     * one per owner booked in the range, never the bookings themselves. Owner rows
+     * are all-time totals and are recomputed in full for those owners.
+     * Corrections are written as deltas through the same upserts as live updates,
+     * so an increment committed by a concurrent booking change is not overwritten.
+     */
+    @Transactional
+    public void reconcile(LocalDate from, LocalDate to) {
+        RollupDelta correction = new RollupDelta();
+
+        dailyStatsRepository.summarizeBetween(from, to).forEach(correction::add);
+        dailyStatsRepository.findByDateBetweenOrderByDate(from, to).forEach(row -> correction.add(row, -1));
+
+        for (OwnerStatsSource source : ownerStatsRepository.computeForOwnersBookedBetween(from, to)) {
+            correction.addOwner(source.ownerId(), source.attended(), source.noShows());
+        }
+        ownerStatsRepository.findForOwnersBookedBetween(from, to).forEach(row ->
+            correction.addOwner(row.getOwnerId(), -row.getAttended(), -row.getNoShows())
+        );
+
+        if (correction.isEmpty()) {
+            return;
+        }
+        writer.apply(correction);
+        LOG.warn("Booking rollups had drifted: corrected {} days and {} owners",
+            correction.changedDays(), correction.changedOwners());
+    }
+
+    /* =======================
+       Internal helpers
+       ======================= */
+
+    /**
+     * Sums daily rows and capacity over a period.
+     */
+    private final class StatsAccumulator {
+
+        private final LocalDate start;
+        private final LocalDate end;
+        private final Map<BookingStatus, Integer> byStatus = new EnumMap<>(BookingStatus.class);
+        private int capacity;
+        private int stays;
+        private long stayMinutes;
+
+        private StatsAccumulator(LocalDate start, LocalDate end) {
+            this.start = start;
+            this.end = end;
+            for (BookingStatus status : BookingStatus.values()) {
+                byStatus.put(status, 0);
+            }
+        }
+
+        StatsAccumulator add(LocalDate date, BookingDailyStatsEntity row) {
+            capacity += capacityProperties.dailyLimitFor(date.getDayOfWeek());
+            if (row != null) {
+                byStatus.merge(BookingStatus.PENDING, row.getPending(), Integer::sum);
+                byStatus.merge(BookingStatus.CONFIRMED, row.getConfirmed(), Integer::sum);
+                byStatus.merge(BookingStatus.CHECKED_IN, row.getCheckedIn(), Integer::sum);
+                byStatus.merge(BookingStatus.CHECKED_OUT, row.getCheckedOut(), Integer::sum);
+                byStatus.merge(BookingStatus.CANCELLED, row.getCancelled(), Integer::sum);
+                byStatus.merge(BookingStatus.NO_SHOW, row.getNoShow(), Integer::sum);
+                stays += row.getStays();
+                stayMinutes += row.getStayMinutes();
+            }
+            return this;
+        }
+
+        OccupancyStatsResponse toResponse() {
+            int occupying = byStatus.entrySet().stream()
+                .filter(entry -> entry.getKey().occupiesPlace())
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+            return new OccupancyStatsResponse(
+                start,
+                end,
+                Collections.unmodifiableMap(new EnumMap<>(byStatus)),
+                occupying,
+                capacity,
+                capacity == 0 ? 0 : (double) occupying / capacity,
+                stays,
+                stays == 0 ? null : (double) stayMinutes / stays
+            );
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.doggydaycare.backend.analytics;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Booking counts for one day, maintained incrementally by {@link BookingStatsRecorder}.
+ * Counts cover non-deleted bookings; stays are checked-out bookings with both actual times.
+ */
+@Entity
+@Table(name = "booking_daily_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingDailyStatsEntity {
+
+    @Id
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private int pending;
+
+    @Column(nullable = false)
+    private int confirmed;
+
+    @Column(name = "checked_in", nullable = false)
+    private int checkedIn;
+
+    @Column(name = "checked_out", nullable = false)
+    private int checkedOut;
+
+    @Column(nullable = false)
+    private int cancelled;
+
+    @Column(name = "no_show", nullable = false)
+    private int noShow;
+
+    @Column(nullable = false)
+    private int stays;
+
+    @Column(name = "stay_minutes", nullable = false)
+    private long stayMinutes;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
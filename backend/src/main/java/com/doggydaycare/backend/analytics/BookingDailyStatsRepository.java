@@ -0,0 +1,44 @@
+package com.doggydaycare.backend.analytics;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface BookingDailyStatsRepository extends JpaRepository<BookingDailyStatsEntity, LocalDate> {
+
+    List<BookingDailyStatsEntity> findByDateBetweenOrderByDate(LocalDate from, LocalDate to);
+
+    /* =======================
+       Reconciliation sources
+       ======================= */
+
+    /**
+     * Recomputes the daily rows from bookings, one row per date that has any.
+     * Stay minutes follow {@link RollupDelta#stayMinutes}: whole minutes between the
+     * actual times, one less when the check-out seconds are below the check-in seconds.
+     */
+    @Query("""
+        select new com.doggydaycare.backend.analytics.DailyStatsSource(
+            b.date,
+            sum(case when b.status = com.doggydaycare.backend.booking.BookingStatus.PENDING then 1 else 0 end),
+            sum(case when b.status = com.doggydaycare.backend.booking.BookingStatus.CONFIRMED then 1 else 0 end),
+            sum(case when b.status = com.doggydaycare.backend.booking.BookingStatus.CHECKED_IN then 1 else 0 end),
+            sum(case when b.status = com.doggydaycare.backend.booking.BookingStatus.CHECKED_OUT then 1 else 0 end),
+            sum(case when b.status = com.doggydaycare.backend.booking.BookingStatus.CANCELLED then 1 else 0 end),
+            sum(case when b.status = com.doggydaycare.backend.booking.BookingStatus.NO_SHOW then 1 else 0 end),
+            sum(case when b.status = com.doggydaycare.backend.booking.BookingStatus.CHECKED_OUT
+                      and b.actualCheckOutTime > b.actualCheckInTime then 1 else 0 end),
+            coalesce(sum(case when b.status = com.doggydaycare.backend.booking.BookingStatus.CHECKED_OUT
+                               and b.actualCheckOutTime > b.actualCheckInTime
+                then hour(b.actualCheckOutTime) * 60 + minute(b.actualCheckOutTime)
+                     - hour(b.actualCheckInTime) * 60 - minute(b.actualCheckInTime)
+                     - case when second(b.actualCheckOutTime) < second(b.actualCheckInTime) then 1 else 0 end
+            end), 0))
+        from BookingEntity b
+        where b.deleted = false and b.date between :from and :to
+        group by b.date
+        """)
+    List<DailyStatsSource> summarizeBetween(LocalDate from, LocalDate to);
+}
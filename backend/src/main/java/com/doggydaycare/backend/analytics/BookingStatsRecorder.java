@@ -0,0 +1,88 @@
+package com.doggydaycare.backend.analytics;
+
+import com.doggydaycare.backend.booking.BookingEvent;
+import com.doggydaycare.backend.booking.BookingEventType;
+import com.doggydaycare.backend.booking.BookingResponse;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the rollup tables in step with booking changes.
+ * <p>
+ * Each {@link BookingEvent} takes the booking's previous contribution off its day
+ * and owner and adds the new one. Deltas are summed per transaction and written just
+ * before it commits, so the rollups change if and only if the bookings do, and a
+ * series of bookings costs one upsert per day rather than one per event.
+ */
+@Component
+public class BookingStatsRecorder {
+
+    private final BookingStatsWriter writer;
+    private final TransactionTemplate transactionTemplate;
+
+    public BookingStatsRecorder(BookingStatsWriter writer, TransactionTemplate transactionTemplate) {
+        this.writer = writer;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener
+    public void onBookingChanged(BookingEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            RollupDelta delta = new RollupDelta();
+            collect(event, delta);
+            transactionTemplate.executeWithoutResult(status -> writer.apply(delta));
+            return;
+        }
+        collect(event, deltaForCurrentTransaction());
+    }
+
+    private static void collect(BookingEvent event, RollupDelta delta) {
+        BookingResponse booking = event.booking();
+        if (event.previousStatus() != null) {
+            delta.add(
+                event.previousDate() != null ? event.previousDate() : booking.date(),
+                event.ownerId(),
+                event.previousStatus(),
+                booking.actualCheckInTime(),
+                booking.actualCheckOutTime(),
+                -1
+            );
+        }
+        if (event.type() != BookingEventType.DELETED) {
+            delta.add(
+                booking.date(),
+                event.ownerId(),
+                booking.status(),
+                booking.actualCheckInTime(),
+                booking.actualCheckOutTime(),
+                1
+            );
+        }
+    }
+
+    private RollupDelta deltaForCurrentTransaction() {
+        RollupDelta existing = (RollupDelta) TransactionSynchronizationManager.getResource(this);
+        if (existing != null) {
+            return existing;
+        }
+        RollupDelta delta = new RollupDelta();
+        TransactionSynchronizationManager.bindResource(this, delta);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (!delta.isEmpty()) {
+                    writer.apply(delta);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResource(BookingStatsRecorder.this);
+            }
+        });
+        return delta;
+    }
+}
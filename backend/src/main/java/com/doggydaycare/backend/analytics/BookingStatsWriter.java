@@ -0,0 +1,113 @@
+package com.doggydaycare.backend.analytics;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Adds a {@link RollupDelta} to the rollup tables with one JDBC batch per table.
+ * Upserts add to the stored counts, so concurrent writers never overwrite each other.
+ */
+@Component
+class BookingStatsWriter {
+
+    private static final String UPSERT_DAILY = """
+        insert into booking_daily_stats
+            (date, pending, confirmed, checked_in, checked_out, cancelled, no_show, stays, stay_minutes, updated_at)
+        values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        on duplicate key update
+            pending = pending + values(pending),
+            confirmed = confirmed + values(confirmed),
+            checked_in = checked_in + values(checked_in),
+            checked_out = checked_out + values(checked_out),
+            cancelled = cancelled + values(cancelled),
+            no_show = no_show + values(no_show),
+            stays = stays + values(stays),
+            stay_minutes = stay_minutes + values(stay_minutes),
+            updated_at = values(updated_at)
+        """;
+
+    private static final String UPSERT_OWNER = """
+        insert into booking_owner_stats (owner_id, attended, no_shows, updated_at)
+        values (?, ?, ?, ?)
+        on duplicate key update
+            attended = attended + values(attended),
+            no_shows = no_shows + values(no_shows),
+            updated_at = values(updated_at)
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Must run inside a transaction. Uses the transaction's connection, so the
+     * rollups commit or roll back together with the bookings.
+     */
+    void apply(RollupDelta delta) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement daily = connection.prepareStatement(UPSERT_DAILY)) {
+                boolean batched = false;
+                for (var entry : delta.daily.entrySet()) {
+                    RollupDelta.Daily day = entry.getValue();
+                    if (day.isZero()) {
+                        continue;
+                    }
+                    daily.setDate(1, Date.valueOf(entry.getKey()));
+                    daily.setLong(2, day.pending);
+                    daily.setLong(3, day.confirmed);
+                    daily.setLong(4, day.checkedIn);
+                    daily.setLong(5, day.checkedOut);
+                    daily.setLong(6, day.cancelled);
+                    daily.setLong(7, day.noShow);
+                    daily.setLong(8, day.stays);
+                    daily.setLong(9, day.stayMinutes);
+                    daily.setTimestamp(10, now);
+                    daily.addBatch();
+                    batched = true;
+                }
+                if (batched) {
+                    daily.executeBatch();
+                }
+            }
+
+            try (PreparedStatement owners = connection.prepareStatement(UPSERT_OWNER)) {
+                boolean batched = false;
+                for (var entry : delta.owners.entrySet()) {
+                    RollupDelta.Owner owner = entry.getValue();
+                    if (owner.isZero()) {
+                        continue;
+                    }
+                    owners.setBytes(1, toBytes(entry.getKey()));
+                    owners.setLong(2, owner.attended);
+                    owners.setLong(3, owner.noShows);
+                    owners.setTimestamp(4, now);
+                    owners.addBatch();
+                    batched = true;
+                }
+                if (batched) {
+                    owners.executeBatch();
+                }
+            }
+        });
+    }
+
+    /**
+     * Same layout Hibernate uses for UUIDs in BINARY(16) columns.
+     */
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+}
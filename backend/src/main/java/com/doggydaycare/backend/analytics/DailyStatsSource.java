@@ -0,0 +1,18 @@
+package com.doggydaycare.backend.analytics;
+
+import java.time.LocalDate;
+
+/**
+ * Daily counts recomputed from bookings during reconciliation.
+ */
+public record DailyStatsSource(
+    LocalDate date,
+    long pending,
+    long confirmed,
+    long checkedIn,
+    long checkedOut,
+    long cancelled,
+    long noShow,
+    long stays,
+    long stayMinutes
+) {}
@@ -0,0 +1,16 @@
+package com.doggydaycare.backend.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Occupancy for a date range: every day, every ISO week (Monday to Sunday,
+ * clipped to the range) and the range as a whole.
+ */
+public record OccupancyReportResponse(
+    LocalDate from,
+    LocalDate to,
+    OccupancyStatsResponse total,
+    List<OccupancyStatsResponse> weeks,
+    List<OccupancyStatsResponse> days
+) {}
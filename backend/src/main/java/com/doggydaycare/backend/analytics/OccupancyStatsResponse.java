@@ -0,0 +1,25 @@
+package com.doggydaycare.backend.analytics;
+
+import com.doggydaycare.backend.booking.BookingStatus;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Booking statistics for a day or a week.
+ *
+ * @param occupying           bookings holding a place (not cancelled or no-show)
+ * @param capacity            places available over the period
+ * @param utilisation         occupying / capacity
+ * @param averageStayMinutes  mean length of completed stays, null if there were none
+ */
+public record OccupancyStatsResponse(
+    LocalDate start,
+    LocalDate end,
+    Map<BookingStatus, Integer> bookingsByStatus,
+    int occupying,
+    int capacity,
+    double utilisation,
+    int completedStays,
+    Double averageStayMinutes
+) {}
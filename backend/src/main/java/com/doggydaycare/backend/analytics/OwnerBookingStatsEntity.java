@@ -0,0 +1,36 @@
+package com.doggydaycare.backend.analytics;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Attended and no-show bookings per dog owner, maintained incrementally by {@link BookingStatsRecorder}.
+ */
+@Entity
+@Table(name = "booking_owner_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OwnerBookingStatsEntity {
+
+    @Id
+    @Column(name = "owner_id")
+    private UUID ownerId;
+
+    @Column(nullable = false)
+    private int attended;
+
+    @Column(name = "no_shows", nullable = false)
+    private int noShows;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
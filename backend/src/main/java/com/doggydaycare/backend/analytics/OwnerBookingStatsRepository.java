@@ -0,0 +1,54 @@
+package com.doggydaycare.backend.analytics;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface OwnerBookingStatsRepository extends JpaRepository<OwnerBookingStatsEntity, UUID> {
+
+    @Query("""
+        select new com.doggydaycare.backend.analytics.OwnerNoShowResponse(
+            s.ownerId,
+            trim(concat(coalesce(u.firstName, ''), ' ', coalesce(u.lastName, ''))),
+            s.attended, s.noShows)
+        from OwnerBookingStatsEntity s
+        join UserEntity u on u.id = s.ownerId
+        where s.noShows > 0
+        order by s.noShows desc, s.ownerId
+        """)
+    List<OwnerNoShowResponse> findTopNoShows(Limit limit);
+
+    /* =======================
+       Reconciliation sources
+       ======================= */
+
+    /**
+     * Owners with a booking dated in the range, deleted ones included so removed
+     * bookings are reconciled too.
+     */
+    String OWNERS_BOOKED_BETWEEN =
+        "select od.user.id from BookingEntity ob join ob.dog od where ob.date between :from and :to";
+
+    @Query("""
+        select new com.doggydaycare.backend.analytics.OwnerStatsSource(
+            d.user.id,
+            sum(case when b.status in (
+                com.doggydaycare.backend.booking.BookingStatus.CHECKED_IN,
+                com.doggydaycare.backend.booking.BookingStatus.CHECKED_OUT) then 1 else 0 end),
+            sum(case when b.status = com.doggydaycare.backend.booking.BookingStatus.NO_SHOW then 1 else 0 end))
+        from BookingEntity b
+        join b.dog d
+        where b.deleted = false
+          and d.user.id in (""" + OWNERS_BOOKED_BETWEEN + """
+          )
+        group by d.user.id
+        """)
+    List<OwnerStatsSource> computeForOwnersBookedBetween(LocalDate from, LocalDate to);
+
+    @Query("select s from OwnerBookingStatsEntity s where s.ownerId in (" + OWNERS_BOOKED_BETWEEN + ")")
+    List<OwnerBookingStatsEntity> findForOwnersBookedBetween(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,20 @@
+package com.doggydaycare.backend.analytics;
+
+import java.util.UUID;
+
+/**
+ * No-show record of a dog owner. The rate is no-shows out of attended plus no-show bookings.
+ */
+public record OwnerNoShowResponse(
+    UUID ownerId,
+    String ownerName,
+    int attended,
+    int noShows,
+    double noShowRate
+) {
+
+    public OwnerNoShowResponse(UUID ownerId, String ownerName, int attended, int noShows) {
+        this(ownerId, ownerName, attended, noShows,
+            attended + noShows == 0 ? 0 : (double) noShows / (attended + noShows));
+    }
+}
@@ -0,0 +1,8 @@
+package com.doggydaycare.backend.analytics;
+
+import java.util.UUID;
+
+/**
+ * Owner counts recomputed from bookings during reconciliation.
+ */
+public record OwnerStatsSource(UUID ownerId, long attended, long noShows) {}
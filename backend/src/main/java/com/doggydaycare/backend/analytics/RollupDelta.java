@@ -0,0 +1,133 @@
+package com.doggydaycare.backend.analytics;
+
+import com.doggydaycare.backend.booking.BookingStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Changes to the rollup rows collected over one transaction.
+ * Sorted maps make every writer lock rows in the same order.
+ */
+class RollupDelta {
+
+    final Map<LocalDate, Daily> daily = new TreeMap<>();
+    final Map<UUID, Owner> owners = new TreeMap<>();
+
+    /**
+     * Adds (sign 1) or removes (sign -1) one booking's contribution to its day and owner.
+     */
+    void add(LocalDate date, UUID ownerId, BookingStatus status, LocalTime checkIn, LocalTime checkOut, int sign) {
+        Daily day = daily.computeIfAbsent(date, key -> new Daily());
+        switch (status) {
+            case PENDING -> day.pending += sign;
+            case CONFIRMED -> day.confirmed += sign;
+            case CHECKED_IN -> day.checkedIn += sign;
+            case CHECKED_OUT -> day.checkedOut += sign;
+            case CANCELLED -> day.cancelled += sign;
+            case NO_SHOW -> day.noShow += sign;
+        }
+        Long stay = stayMinutes(status, checkIn, checkOut);
+        if (stay != null) {
+            day.stays += sign;
+            day.stayMinutes += sign * stay;
+        }
+
+        if (ownerId != null && (status == BookingStatus.CHECKED_IN || status == BookingStatus.CHECKED_OUT
+            || status == BookingStatus.NO_SHOW)) {
+            Owner owner = owners.computeIfAbsent(ownerId, key -> new Owner());
+            if (status == BookingStatus.NO_SHOW) {
+                owner.noShows += sign;
+            } else {
+                owner.attended += sign;
+            }
+        }
+    }
+
+    /**
+     * Adds (sign 1) or removes (sign -1) a stored daily row, used to compute corrections.
+     */
+    void add(BookingDailyStatsEntity row, int sign) {
+        Daily day = daily.computeIfAbsent(row.getDate(), key -> new Daily());
+        day.pending += sign * row.getPending();
+        day.confirmed += sign * row.getConfirmed();
+        day.checkedIn += sign * row.getCheckedIn();
+        day.checkedOut += sign * row.getCheckedOut();
+        day.cancelled += sign * row.getCancelled();
+        day.noShow += sign * row.getNoShow();
+        day.stays += sign * row.getStays();
+        day.stayMinutes += sign * row.getStayMinutes();
+    }
+
+    /**
+     * Adds daily counts recomputed from bookings, used to compute corrections.
+     */
+    void add(DailyStatsSource source) {
+        Daily day = daily.computeIfAbsent(source.date(), key -> new Daily());
+        day.pending += (int) source.pending();
+        day.confirmed += (int) source.confirmed();
+        day.checkedIn += (int) source.checkedIn();
+        day.checkedOut += (int) source.checkedOut();
+        day.cancelled += (int) source.cancelled();
+        day.noShow += (int) source.noShow();
+        day.stays += (int) source.stays();
+        day.stayMinutes += source.stayMinutes();
+    }
+
+    void addOwner(UUID ownerId, long attended, long noShows) {
+        Owner owner = owners.computeIfAbsent(ownerId, key -> new Owner());
+        owner.attended += (int) attended;
+        owner.noShows += (int) noShows;
+    }
+
+    long changedDays() {
+        return daily.values().stream().filter(day -> !day.isZero()).count();
+    }
+
+    long changedOwners() {
+        return owners.values().stream().filter(owner -> !owner.isZero()).count();
+    }
+
+    boolean isEmpty() {
+        return daily.values().stream().allMatch(Daily::isZero) && owners.values().stream().allMatch(Owner::isZero);
+    }
+
+    /**
+     * Minutes between actual check-in and check-out of a completed stay, or null if it is not one.
+     * Same rule as the V5 backfill.
+     */
+    static Long stayMinutes(BookingStatus status, LocalTime checkIn, LocalTime checkOut) {
+        if (status != BookingStatus.CHECKED_OUT || checkIn == null || checkOut == null || !checkOut.isAfter(checkIn)) {
+            return null;
+        }
+        return (long) (checkOut.toSecondOfDay() - checkIn.toSecondOfDay()) / 60;
+    }
+
+    static final class Daily {
+        int pending;
+        int confirmed;
+        int checkedIn;
+        int checkedOut;
+        int cancelled;
+        int noShow;
+        int stays;
+        long stayMinutes;
+
+        boolean isZero() {
+            return pending == 0 && confirmed == 0 && checkedIn == 0 && checkedOut == 0
+                && cancelled == 0 && noShow == 0 && stays == 0 && stayMinutes == 0;
+        }
+    }
+
+    static final class Owner {
+        int attended;
+        int noShows;
+
+        boolean isZero() {
+            return attended == 0 && noShows == 0;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.doggydaycare.backend.auth;
+
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AuthService {
+
+    private static final String BEARER = "Bearer";
+
+    private final AuthenticationManager authenticationManager;
+    private final UserDetailsService userDetailsService;
+    private final JwtService jwtService;
+
+    public AuthService(
+        AuthenticationManager authenticationManager,
+        UserDetailsService userDetailsService,
+        JwtService jwtService
+    ) {
+        this.authenticationManager = authenticationManager;
+        this.userDetailsService = userDetailsService;
+        this.jwtService = jwtService;
+    }
+
+    /**
+     * Checks the password once and issues an access and a refresh token.
+     * Failed logins surface as AuthenticationException (401).
+     */
+    public TokenResponse login(LoginRequest request) {
+        Authentication authentication = authenticationManager.authenticate(
+            UsernamePasswordAuthenticationToken.unauthenticated(request.email(), request.password())
+        );
+        return issueTokens((UserDetails) authentication.getPrincipal());
+    }
+
+    /**
+     * Issues a new token pair for a valid refresh token.
+     * The user is re-read so disabled or deleted accounts cannot refresh.
+     */
+    public TokenResponse refresh(RefreshRequest request) {
+        VerifiedToken token = jwtService.verify(request.refreshToken());
+        if (token.type() != TokenType.REFRESH) {
+            throw new InvalidTokenException("Not a refresh token");
+        }
+
+        UserDetails user;
+        try {
+            user = userDetailsService.loadUserByUsername(token.subject());
+        } catch (UsernameNotFoundException e) {
+            throw new InvalidTokenException("User no longer exists", e);
+        }
+        if (!user.isEnabled() || !user.isAccountNonLocked()) {
+            throw new InvalidTokenException("User is disabled");
+        }
+        return issueTokens(user);
+    }
+
+    private TokenResponse issueTokens(UserDetails user) {
+        return new TokenResponse(
+            jwtService.issueAccessToken(user),
+            jwtService.issueRefreshToken(user),
+            BEARER,
+            jwtService.accessTokenTtl().toSeconds()
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package com.doggydaycare.backend.auth;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates requests carrying "Authorization: Bearer &lt;access token&gt;".
+ * <p>
+ * The principal and authorities come from the token alone. Requests without a
+ * token, or with an invalid one, continue unauthenticated and are rejected by the
+ * authorization rules if the endpoint requires a user.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtService jwtService;
+    private final SecurityContextHolderStrategy securityContextHolderStrategy =
+        SecurityContextHolder.getContextHolderStrategy();
+
+    public JwtAuthenticationFilter(JwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            authenticate(header.substring(BEARER_PREFIX.length()));
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(String token) {
+        VerifiedToken verified;
+        try {
+            verified = jwtService.verify(token);
+        } catch (InvalidTokenException e) {
+            return;
+        }
+        if (verified.type() != TokenType.ACCESS) {
+            return;
+        }
+
+        SecurityContext context = securityContextHolderStrategy.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+            verified.subject(), null, verified.authorities()
+        ));
+        securityContextHolderStrategy.setContext(context);
+    }
+}
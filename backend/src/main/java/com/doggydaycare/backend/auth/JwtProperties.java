@@ -0,0 +1,22 @@
+package com.doggydaycare.backend.auth;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for issuing and verifying JWTs.
+ *
+ * @param secret          base64-encoded HMAC key of at least 256 bits; a random key is used when blank
+ * @param issuer          iss claim written to and required on every token
+ * @param accessTokenTtl  lifetime of access tokens
+ * @param refreshTokenTtl lifetime of refresh tokens
+ */
+@ConfigurationProperties(prefix = "daycare.security.jwt")
+public record JwtProperties(
+    String secret,
+    @DefaultValue("doggydaycare") String issuer,
+    @DefaultValue("15m") Duration accessTokenTtl,
+    @DefaultValue("7d") Duration refreshTokenTtl
+) {}
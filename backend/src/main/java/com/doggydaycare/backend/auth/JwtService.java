@@ -0,0 +1,134 @@
+package com.doggydaycare.backend.auth;
+
+import com.doggydaycare.backend.user.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Issues and verifies HMAC-signed JWTs.
+ * <p>
+ * The signing key and the parser are built once, so verifying a token costs a
+ * signature check and a claims decode, with no database or password hashing.
+ * Roles are carried in the token and mapped to shared authority instances.
+ */
+@Service
+public class JwtService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JwtService.class);
+
+    private static final String ROLE_CLAIM = "role";
+    private static final String TYPE_CLAIM = "typ";
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final JwtProperties properties;
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final Map<Role, List<GrantedAuthority>> authoritiesByRole = new EnumMap<>(Role.class);
+
+    public JwtService(JwtProperties properties) {
+        this.properties = properties;
+        this.key = signingKey(properties.secret());
+        this.parser = Jwts.parser()
+            .verifyWith(key)
+            .requireIssuer(properties.issuer())
+            .build();
+
+        for (Role role : Role.values()) {
+            authoritiesByRole.put(role, List.of(new SimpleGrantedAuthority(ROLE_PREFIX + role.name())));
+        }
+    }
+
+    /* =======================
+       Issue
+       ======================= */
+
+    public String issueAccessToken(UserDetails user) {
+        return issue(user, TokenType.ACCESS, properties.accessTokenTtl());
+    }
+
+    public String issueRefreshToken(UserDetails user) {
+        return issue(user, TokenType.REFRESH, properties.refreshTokenTtl());
+    }
+
+    public Duration accessTokenTtl() {
+        return properties.accessTokenTtl();
+    }
+
+    /* =======================
+       Verify
+       ======================= */
+
+    /**
+     * Checks signature, issuer and expiry and returns the token's claims.
+     *
+     * @throws InvalidTokenException if the token cannot be trusted
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException("Invalid token", e);
+        }
+
+        try {
+            TokenType type = TokenType.valueOf(claims.get(TYPE_CLAIM, String.class));
+            Role role = Role.valueOf(claims.get(ROLE_CLAIM, String.class));
+            return new VerifiedToken(claims.getSubject(), type, authoritiesByRole.get(role));
+        } catch (RuntimeException e) {
+            throw new InvalidTokenException("Token is missing required claims", e);
+        }
+    }
+
+    /* =======================
+       Internal helpers
+       ======================= */
+
+    private String issue(UserDetails user, TokenType type, Duration ttl) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+            .issuer(properties.issuer())
+            .subject(user.getUsername())
+            .claim(ROLE_CLAIM, roleOf(user).name())
+            .claim(TYPE_CLAIM, type.name())
+            .issuedAt(Date.from(now))
+            .expiration(Date.from(now.plus(ttl)))
+            .signWith(key)
+            .compact();
+    }
+
+    private static Role roleOf(UserDetails user) {
+        return user.getAuthorities().stream()
+            .map(GrantedAuthority::getAuthority)
+            .filter(authority -> authority != null && authority.startsWith(ROLE_PREFIX))
+            .map(authority -> Role.valueOf(authority.substring(ROLE_PREFIX.length())))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("User has no role: " + user.getUsername()));
+    }
+
+    private static SecretKey signingKey(String secret) {
+        if (secret == null || secret.isBlank()) {
+            LOG.warn("daycare.security.jwt.secret is not set; using a random key, tokens will not survive a restart");
+            return Jwts.SIG.HS256.key().build();
+        }
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    }
+}
@@ -0,0 +1,12 @@
+package com.doggydaycare.backend.auth;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record LoginRequest(
+
+    @NotBlank(message = "Email is required")
+    String email,
+
+    @NotBlank(message = "Password is required")
+    String password
+) {}
@@ -0,0 +1,63 @@
+package com.doggydaycare.backend.auth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashes passwords on a small, bounded executor instead of the caller's thread.
+ * <p>
+ * A burst of registrations queues here rather than tying up request threads,
+ * and once the queue is full new hashes fail fast with {@link PasswordHashingBusyException}.
+ * Executor metrics are published as executor.*{name=password-hasher}.
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHasher(
+        PasswordEncoder passwordEncoder,
+        PasswordHashingProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(
+            properties.threads(), properties.threads(),
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.queueCapacity()),
+            new CustomizableThreadFactory("password-hasher-"),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hasher");
+    }
+
+    /**
+     * Hashes a raw password with the configured encoder.
+     * The future fails with {@link PasswordHashingBusyException} if the queue is full.
+     */
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                new PasswordHashingBusyException("Too many passwords being hashed, try again shortly", e)
+            );
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,21 @@
+package com.doggydaycare.backend.auth;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Password hashing cost and the executor hashes run on.
+ * Calibrate bcryptStrength with PasswordHashingBenchmark in backend-benchmarks.
+ *
+ * @param encodingId     id of the encoder used for new hashes: bcrypt or pbkdf2@SpringSecurity_v5_8
+ * @param bcryptStrength BCrypt log2 cost; existing hashes with a lower cost are upgraded on login
+ * @param threads        max concurrent hashes
+ * @param queueCapacity  hashes allowed to wait before new ones are rejected with 503
+ */
+@ConfigurationProperties(prefix = "daycare.security.password")
+public record PasswordHashingProperties(
+    @DefaultValue("bcrypt") String encodingId,
+    @DefaultValue("10") int bcryptStrength,
+    @DefaultValue("2") int threads,
+    @DefaultValue("100") int queueCapacity
+) {}
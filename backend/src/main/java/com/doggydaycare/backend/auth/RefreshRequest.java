@@ -0,0 +1,9 @@
+package com.doggydaycare.backend.auth;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshRequest(
+
+    @NotBlank(message = "Refresh token is required")
+    String refreshToken
+) {}
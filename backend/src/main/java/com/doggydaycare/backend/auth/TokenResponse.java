@@ -0,0 +1,13 @@
+package com.doggydaycare.backend.auth;
+
+/**
+ * Token pair returned by login and refresh.
+ *
+ * @param expiresIn access token lifetime in seconds
+ */
+public record TokenResponse(
+    String accessToken,
+    String refreshToken,
+    String tokenType,
+    long expiresIn
+) {}
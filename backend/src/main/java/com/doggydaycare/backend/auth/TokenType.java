@@ -0,0 +1,10 @@
+package com.doggydaycare.backend.auth;
+
+/**
+ * Value of the typ claim. Only access tokens authorize API requests;
+ * refresh tokens are only accepted by the refresh endpoint.
+ */
+public enum TokenType {
+    ACCESS,
+    REFRESH
+}
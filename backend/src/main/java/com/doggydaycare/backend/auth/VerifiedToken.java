@@ -0,0 +1,14 @@
+package com.doggydaycare.backend.auth;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Claims of a token whose signature, issuer and expiry have been checked.
+ */
+public record VerifiedToken(
+    String subject,
+    TokenType type,
+    List<GrantedAuthority> authorities
+) {}
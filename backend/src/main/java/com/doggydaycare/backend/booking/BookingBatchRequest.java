@@ -0,0 +1,15 @@
+package com.doggydaycare.backend.booking;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bookings to move through the same lifecycle step in one call,
+ * e.g. every dog dropped off in the morning rush.
+ */
+public record BookingBatchRequest(
+    @NotEmpty(message = "At least one booking id is required")
+    List<UUID> bookingIds
+) {}
@@ -0,0 +1,9 @@
+package com.doggydaycare.backend.booking;
+
+import java.util.List;
+
+public record BookingBatchResponse(
+    int succeeded,
+    int failed,
+    List<BookingBatchResult> results
+) {}
@@ -0,0 +1,14 @@
+package com.doggydaycare.backend.booking;
+
+import java.util.UUID;
+
+/**
+ * Outcome for one booking of a batch lifecycle request.
+ * booking is set when the step was applied, reason when it was not.
+ */
+public record BookingBatchResult(
+    UUID bookingId,
+    boolean succeeded,
+    BookingResponse booking,
+    String reason
+) {}
@@ -0,0 +1,238 @@
+package com.doggydaycare.backend.booking;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory occupancy index used to admit bookings against the daycare's capacity.
+ * <p>
+ * Counters are kept per date and per time slot. They are warmed from the database
+ * at startup, loaded on demand when a booking is admitted for a date not seen yet,
+ * and then kept up to date by {@link BookingService} as bookings are created, moved,
+ * cancelled or deleted.
+ * Admission is a hash lookup plus a check of the booking's slots, with no COUNT query.
+ * <p>
+ * Places taken inside a transaction are handed back if it rolls back.
+ * Places freed inside a transaction are only handed back once it commits.
+ */
+@Service
+public class BookingCapacityService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BookingCapacityService.class);
+
+    private final BookingRepository bookingRepository;
+    private final CapacityProperties properties;
+    private final Map<LocalDate, DailyOccupancy> occupancy = new ConcurrentHashMap<>();
+
+    public BookingCapacityService(BookingRepository bookingRepository, CapacityProperties properties) {
+        this.bookingRepository = bookingRepository;
+        this.properties = properties;
+    }
+
+    /* =======================
+       Warm-up
+       ======================= */
+
+    /**
+     * Loads occupancy for today and every future date that has bookings.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDate today = LocalDate.now();
+        Map<LocalDate, List<BookingSlot>> byDate = bookingRepository.findOccupyingSlotsFrom(today).stream()
+            .collect(Collectors.groupingBy(BookingSlot::date));
+
+        byDate.forEach((date, slots) -> occupancy.putIfAbsent(date, build(slots)));
+        LOG.info("Capacity index warmed with {} dates", byDate.size());
+    }
+
+    /**
+     * Makes sure every date in the range is loaded, with a single query for the missing ones.
+     */
+    public void preload(LocalDate from, LocalDate to) {
+        if (from.datesUntil(to.plusDays(1)).allMatch(occupancy::containsKey)) {
+            return;
+        }
+        Map<LocalDate, List<BookingSlot>> byDate = bookingRepository.findOccupyingSlotsBetween(from, to).stream()
+            .collect(Collectors.groupingBy(BookingSlot::date));
+
+        from.datesUntil(to.plusDays(1)).forEach(date ->
+            occupancy.putIfAbsent(date, build(byDate.getOrDefault(date, List.of())))
+        );
+    }
+
+    /* =======================
+       Admission
+       ======================= */
+
+    /**
+     * Takes a place for the booking or throws if the day or one of its slots is full.
+     */
+    public void acquire(LocalDate date, LocalTime checkIn, LocalTime checkOut) {
+        if (!tryAcquire(date, checkIn, checkOut)) {
+            throw new CapacityExceededException("The daycare is fully booked on " + date);
+        }
+    }
+
+    /**
+     * Takes a place for the booking if there is room.
+     *
+     * @return false if the day or one of its slots is full
+     */
+    public boolean tryAcquire(LocalDate date, LocalTime checkIn, LocalTime checkOut) {
+        int first = firstSlot(checkIn);
+        int last = lastSlot(checkOut, first);
+
+        boolean admitted = occupancyFor(date)
+            .tryAdd(properties.dailyLimitFor(date.getDayOfWeek()), properties.slotLimit(), first, last);
+
+        if (admitted) {
+            onRollback(() -> occupancyFor(date).remove(first, last));
+        }
+        return admitted;
+    }
+
+    /**
+     * Moves a booking to new times on the same day, or throws if a slot it newly covers is full.
+     * The booking keeps its place in the daily count, so a full day does not block the move.
+     * Slots it no longer covers are handed back once the current transaction commits.
+     */
+    public void moveWithinDay(LocalDate date, LocalTime oldCheckIn, LocalTime oldCheckOut,
+                              LocalTime newCheckIn, LocalTime newCheckOut) {
+        int oldFirst = firstSlot(oldCheckIn);
+        int oldLast = lastSlot(oldCheckOut, oldFirst);
+        int newFirst = firstSlot(newCheckIn);
+        int newLast = lastSlot(newCheckOut, newFirst);
+
+        if (!occupancyFor(date).tryMoveSlots(properties.slotLimit(), oldFirst, oldLast, newFirst, newLast)) {
+            throw new CapacityExceededException("The daycare is fully booked at those times on " + date);
+        }
+        onRollback(() -> occupancyFor(date).releaseSlots(newFirst, newLast, oldFirst, oldLast));
+        afterCommit(() -> {
+            DailyOccupancy day = occupancy.get(date);
+            if (day != null) {
+                day.releaseSlots(oldFirst, oldLast, newFirst, newLast);
+            }
+        });
+    }
+
+    /**
+     * Hands back the place held by a booking once the current transaction commits.
+     */
+    public void release(LocalDate date, LocalTime checkIn, LocalTime checkOut) {
+        int first = firstSlot(checkIn);
+        int last = lastSlot(checkOut, first);
+
+        afterCommit(() -> {
+            DailyOccupancy day = occupancy.get(date);
+            if (day != null) {
+                day.remove(first, last);
+            }
+        });
+    }
+
+    /**
+     * Drops counters for past dates, which no longer take admissions.
+     */
+    public void evictBefore(LocalDate date) {
+        occupancy.keySet().removeIf(day -> day.isBefore(date));
+    }
+
+    /* =======================
+       Read
+       ======================= */
+
+    /**
+     * Reports a date's occupancy. Dates without counters are computed from the bookings
+     * but not cached, so reads of arbitrary dates never grow the index.
+     */
+    public CapacityResponse getCapacity(LocalDate date) {
+        DailyOccupancy day = occupancy.get(date);
+        if (day == null) {
+            day = build(bookingRepository.findOccupyingSlotsBetween(date, date));
+        }
+        return new CapacityResponse(
+            date,
+            properties.dailyLimitFor(date.getDayOfWeek()),
+            day.booked(),
+            properties.slotLimit(),
+            day.slotCounts()
+        );
+    }
+
+    /* =======================
+       Internal helpers
+       ======================= */
+
+    private DailyOccupancy occupancyFor(LocalDate date) {
+        DailyOccupancy day = occupancy.get(date);
+        if (day != null) {
+            return day;
+        }
+        // Load outside the map so the query never runs while holding a bin lock.
+        // If two threads race, both read the same committed bookings and one copy wins.
+        DailyOccupancy loaded = build(bookingRepository.findOccupyingSlotsBetween(date, date));
+        DailyOccupancy existing = occupancy.putIfAbsent(date, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private DailyOccupancy build(List<BookingSlot> slots) {
+        DailyOccupancy day = new DailyOccupancy(properties.slotCount());
+        for (BookingSlot slot : slots) {
+            int first = firstSlot(slot.expectedCheckInTime());
+            day.add(first, lastSlot(slot.expectedCheckOutTime(), first));
+        }
+        return day;
+    }
+
+    private int firstSlot(LocalTime checkIn) {
+        return checkIn == null ? 0 : properties.slotOf(checkIn);
+    }
+
+    private int lastSlot(LocalTime checkOut, int firstSlot) {
+        if (checkOut == null) {
+            return properties.slotCount() - 1;
+        }
+        // A check-out exactly on a slot boundary does not occupy the next slot
+        return Math.max(firstSlot, properties.slotOf(checkOut.minusNanos(1)));
+    }
+
+    private static void onRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
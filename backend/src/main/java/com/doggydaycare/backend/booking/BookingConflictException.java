@@ -0,0 +1,15 @@
+package com.doggydaycare.backend.booking;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a booking would break the one-booking-per-dog-per-day rule.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class BookingConflictException extends IllegalStateException {
+
+    public BookingConflictException(String message) {
+        super(message);
+    }
+}
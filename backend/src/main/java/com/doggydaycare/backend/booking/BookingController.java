@@ -3,12 +3,19 @@ package com.doggydaycare.backend.booking;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -16,7 +23,14 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class BookingController {
 
+    // Set on the capped list endpoint; exposed to the browser in SecurityConfig.
+    public static final String TRUNCATED_HEADER = "X-Truncated";
+
     private final BookingService bookingService;
+    private final BookingCapacityService capacityService;
+    private final DailyRosterService rosterService;
+    private final BookingEventStream eventStream;
+    private final BookingExportService exportService;
 
     /* =======================
        Create
@@ -34,16 +48,71 @@ public class BookingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * Creates bookings for a dog on the given weekdays within a date range.
+     * Returns one result per date; dates already booked are skipped.
+     */
+    @PostMapping("/recurring")
+    public ResponseEntity<BookingRecurrenceResponse> createRecurringBookings(
+        @Valid @RequestBody BookingRecurrenceRequest request
+    ) {
+        BookingRecurrenceResponse created = bookingService.createRecurringBookings(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
     /* =======================
        Read
        ======================= */
 
     /**
-     * Returns all non-deleted bookings.
+     * Returns the newest non-deleted bookings, capped at a fixed number of rows.
+     * Sets X-Truncated: true when older bookings were left out; use /page to walk through all bookings.
      */
     @GetMapping
     public ResponseEntity<List<BookingResponse>> getAllBookings() {
-        return ResponseEntity.ok(bookingService.getAllBookings());
+        BookingList bookings = bookingService.getAllBookings();
+        return ResponseEntity.ok()
+            .header(TRUNCATED_HEADER, String.valueOf(bookings.truncated()))
+            .body(bookings.items());
+    }
+
+    /**
+     * Returns one page of non-deleted bookings ordered by date.
+     * Pass nextAfterDate/nextAfterId from the previous page to continue.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<BookingPageResponse> getBookingPage(
+        @RequestParam(required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate afterDate,
+        @RequestParam(required = false) UUID afterId,
+        @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(bookingService.getBookingPage(afterDate, afterId, size));
+    }
+
+    /**
+     * Downloads non-deleted bookings between two dates (inclusive) as CSV or NDJSON,
+     * ordered by date, optionally only those with the given statuses.
+     * Rows are written as they are read, so exports of any size use constant memory.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+        @RequestParam
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate from,
+        @RequestParam
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate to,
+        @RequestParam(required = false) Set<BookingStatus> status,
+        @RequestParam(defaultValue = "CSV") BookingExportFormat format
+    ) {
+        StreamingResponseBody body = exportService.export(from, to, status, format);
+        String filename = "bookings-" + from + "-to-" + to + "." + format.extension();
+        return ResponseEntity.ok()
+            .contentType(format.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .body(body);
     }
 
     /**
@@ -66,6 +135,51 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.getBookingsByDate(date));
     }
 
+    /**
+     * Returns booked places and per-slot occupancy for a date.
+     */
+    @GetMapping("/capacity/{date}")
+    public ResponseEntity<CapacityResponse> getCapacity(
+        @PathVariable
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate date
+    ) {
+        return ResponseEntity.ok(capacityService.getCapacity(date));
+    }
+
+    /**
+     * Returns the day's bookings grouped by status, with dog and owner names.
+     * Send the ETag back in If-None-Match to get 304 Not Modified while nothing changed.
+     */
+    @GetMapping("/roster/{date}")
+    public ResponseEntity<DailyRosterResponse> getRoster(
+        @PathVariable
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate date
+    ) {
+        DailyRoster roster = rosterService.getRoster(date);
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(roster.etag())
+            .body(roster.response());
+    }
+
+    /**
+     * Streams booking changes as Server-Sent Events, optionally narrowed
+     * to a date, a dog or a dog owner. Event names are the change type,
+     * e.g. created, checked-in or no-show; an overflow event means some were dropped.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBookingEvents(
+        @RequestParam(required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate date,
+        @RequestParam(required = false) UUID dogId,
+        @RequestParam(required = false) UUID ownerId
+    ) {
+        return eventStream.subscribe(new BookingStreamFilter(date, dogId, ownerId));
+    }
+
     /**
      * Returns all bookings for a specific dog.
      */
@@ -128,6 +242,23 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.checkOut(id));
     }
 
+    /**
+     * Checks in several bookings in one call, e.g. a morning drop-off wave.
+     * Returns a result per booking; one that cannot be checked in does not stop the rest.
+     */
+    @PostMapping("/check-in")
+    public ResponseEntity<BookingBatchResponse> checkInAll(@Valid @RequestBody BookingBatchRequest request) {
+        return ResponseEntity.ok(bookingService.checkInAll(request.bookingIds()));
+    }
+
+    /**
+     * Checks out several bookings in one call, with a result per booking.
+     */
+    @PostMapping("/check-out")
+    public ResponseEntity<BookingBatchResponse> checkOutAll(@Valid @RequestBody BookingBatchRequest request) {
+        return ResponseEntity.ok(bookingService.checkOutAll(request.bookingIds()));
+    }
+
     /**
      * Cancels a booking.
      */
@@ -0,0 +1,15 @@
+package com.doggydaycare.backend.booking;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Outcome for one date of a recurring booking request.
+ * bookingId is set when the booking was created, reason when it was not.
+ */
+public record BookingDateResult(
+    LocalDate date,
+    boolean created,
+    UUID bookingId,
+    String reason
+) {}
@@ -5,6 +5,7 @@ import com.doggydaycare.backend.dog.DogEntity;
 import com.doggydaycare.backend.user.UserEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -19,9 +20,14 @@ import java.util.UUID;
 @Table(
     name = "bookings",
     indexes = {
-        @Index(name = "idx_booking_date", columnList = "date"),
-        @Index(name = "idx_booking_status", columnList = "status"),
-        @Index(name = "idx_booking_dog", columnList = "dog_id")
+        @Index(name = "idx_booking_dog_date_deleted", columnList = "dog_id, date, deleted"),
+        @Index(name = "idx_booking_date_deleted_status", columnList = "date, deleted, status"),
+        @Index(name = "idx_booking_status_deleted_date", columnList = "status, deleted, date"),
+        @Index(name = "idx_booking_booked_by_deleted_date", columnList = "booked_by_id, deleted, date"),
+        @Index(name = "idx_booking_deleted_date", columnList = "deleted, date")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_booking_dog_date_live", columnNames = {"dog_id", "date", "live"})
     }
 )
 @Getter
@@ -31,8 +37,12 @@ import java.util.UUID;
 @Builder
 public class BookingEntity {
 
+    /**
+     * UUIDv7: the leading millisecond timestamp makes new ids sort after existing ones,
+     * so inserts append to the BINARY(16) primary key instead of splitting pages at random.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     @Setter(AccessLevel.NONE)
     private UUID id;
 
@@ -62,8 +72,19 @@ public class BookingEntity {
 
     @Column(nullable = false)
     @Builder.Default
+    @Setter(AccessLevel.NONE)
     private boolean deleted = false;
 
+    /**
+     * TRUE while the booking is not deleted, NULL once soft deleted.
+     * Backs uk_booking_dog_date_live: NULLs never collide in a unique index,
+     * so only live bookings count towards one booking per dog per day.
+     */
+    @Column(name = "live")
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private Boolean live = Boolean.TRUE;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "dog_id", nullable = false)
     private DogEntity dog;
@@ -87,6 +108,16 @@ public class BookingEntity {
        Business methods
        ======================= */
 
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+        syncLive();
+    }
+
+    @PrePersist
+    void syncLive() {
+        this.live = deleted ? null : Boolean.TRUE;
+    }
+
     public void checkIn() {
         if (this.status == BookingStatus.CANCELLED) {
             throw new IllegalStateException("Cannot check in a cancelled booking");
@@ -0,0 +1,47 @@
+package com.doggydaycare.backend.booking;
+
+import com.doggydaycare.backend.user.UserEntity;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Published by {@link BookingService} and {@link ScheduledTask} whenever a booking changes.
+ * <p>
+ * Carries a snapshot of the booking as it stands after the change, so listeners
+ * never have to go back to the database. The owner is the dog's owner.
+ * previousStatus is the status before the change (null for a new booking),
+ * and previousDate is set when the booking was moved to another day.
+ */
+public record BookingEvent(
+    BookingEventType type,
+    BookingResponse booking,
+    UUID ownerId,
+    String ownerName,
+    BookingStatus previousStatus,
+    LocalDate previousDate
+) {
+
+    public static BookingEvent of(
+        BookingEventType type,
+        BookingResponse booking,
+        UserEntity owner,
+        BookingStatus previousStatus,
+        LocalDate previousDate
+    ) {
+        return new BookingEvent(
+            type, booking, owner == null ? null : owner.getId(), ownerName(owner), previousStatus, previousDate
+        );
+    }
+
+    private static String ownerName(UserEntity owner) {
+        if (owner == null) {
+            return null;
+        }
+        return Stream.of(owner.getFirstName(), owner.getLastName())
+            .filter(part -> part != null && !part.isBlank())
+            .collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,194 @@
+package com.doggydaycare.backend.booking;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed {@link BookingEvent}s to dashboards over Server-Sent Events.
+ * <p>
+ * Every subscriber has a bounded buffer drained by its own virtual thread, so a
+ * slow client never blocks the committing transaction or other subscribers.
+ * When a buffer is full the oldest event is dropped, and the subscriber is sent
+ * a {@link BookingStreamOverflow} notice before its next event so it can reload.
+ * Every stream opens with a {@code retry:} frame, which commits the response headers
+ * right away; idle streams get a keep-alive comment, which also detects closed connections.
+ */
+@Service
+public class BookingEventStream {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BookingEventStream.class);
+
+    private final BookingStreamProperties properties;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Semaphore openSlots;
+    private final ThreadFactory drainers = Thread.ofVirtual().name("booking-stream-", 0).factory();
+    private final AtomicLong eventIds = new AtomicLong();
+
+    public BookingEventStream(BookingStreamProperties properties) {
+        this.properties = properties;
+        this.openSlots = new Semaphore(properties.maxSubscribers());
+    }
+
+    /* =======================
+       Subscribe
+       ======================= */
+
+    /**
+     * Opens a stream of booking events matching the filter.
+     */
+    public SseEmitter subscribe(BookingStreamFilter filter) {
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        subscribe(filter, emitter);
+        return emitter;
+    }
+
+    Subscription subscribe(BookingStreamFilter filter, SseEmitter emitter) {
+        // Check and claim in one step, so concurrent subscribes cannot overshoot the limit
+        if (!openSlots.tryAcquire()) {
+            throw new TooManySubscribersException(
+                "The booking stream is at its limit of " + properties.maxSubscribers() + " subscribers"
+            );
+        }
+        Subscription subscription = new Subscription(filter, emitter);
+        subscriptions.add(subscription);
+
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+
+        subscription.drainer.start();
+        return subscription;
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    /* =======================
+       Publish
+       ======================= */
+
+    /**
+     * Hands a committed booking change to every matching subscriber.
+     * Never blocks: full buffers drop their oldest event instead.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingEvent event) {
+        StreamedEvent streamed = new StreamedEvent(eventIds.incrementAndGet(), event);
+        for (Subscription subscription : subscriptions) {
+            if (subscription.filter.matches(event)) {
+                subscription.offer(streamed);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (Subscription subscription : subscriptions) {
+            subscription.cancel();
+            subscription.emitter.complete();
+        }
+    }
+
+    /* =======================
+       Subscription
+       ======================= */
+
+    private record StreamedEvent(long id, BookingEvent event) {}
+
+    /**
+     * One open stream: its filter, its buffer and the virtual thread writing to the client.
+     */
+    final class Subscription {
+
+        private final BookingStreamFilter filter;
+        private final SseEmitter emitter;
+        private final BlockingQueue<StreamedEvent> buffer = new ArrayBlockingQueue<>(properties.bufferSize());
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicLong unreported = new AtomicLong();
+        private final Thread drainer;
+
+        private Subscription(BookingStreamFilter filter, SseEmitter emitter) {
+            this.filter = filter;
+            this.emitter = emitter;
+            this.drainer = drainers.newThread(this::drain);
+        }
+
+        int buffered() {
+            return buffer.size();
+        }
+
+        long dropped() {
+            return dropped.get();
+        }
+
+        void cancel() {
+            if (subscriptions.remove(this)) {
+                openSlots.release();
+                drainer.interrupt();
+            }
+        }
+
+        private void offer(StreamedEvent event) {
+            while (!buffer.offer(event)) {
+                if (buffer.poll() != null) {
+                    dropped.incrementAndGet();
+                    unreported.incrementAndGet();
+                }
+            }
+        }
+
+        private void drain() {
+            long heartbeatMillis = properties.heartbeat().toMillis();
+            try {
+                emitter.send(SseEmitter.event()
+                    .reconnectTime(properties.reconnectDelay().toMillis())
+                    .comment("connected"));
+                while (!Thread.currentThread().isInterrupted()) {
+                    StreamedEvent next = buffer.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                        continue;
+                    }
+                    long missed = unreported.getAndSet(0);
+                    if (missed > 0) {
+                        emitter.send(SseEmitter.event()
+                            .name("overflow")
+                            .data(new BookingStreamOverflow(missed), MediaType.APPLICATION_JSON));
+                    }
+                    emitter.send(SseEmitter.event()
+                        .id(Long.toString(next.id()))
+                        .name(eventName(next.event().type()))
+                        .data(next.event(), MediaType.APPLICATION_JSON));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                LOG.debug("Booking stream closed: {}", e.getMessage());
+            } finally {
+                cancel();
+            }
+        }
+    }
+
+    private static String eventName(BookingEventType type) {
+        return type.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
@@ -0,0 +1,15 @@
+package com.doggydaycare.backend.booking;
+
+/**
+ * What happened to a booking, as carried by {@link BookingEvent}.
+ */
+public enum BookingEventType {
+
+    CREATED,
+    UPDATED,
+    CHECKED_IN,
+    CHECKED_OUT,
+    CANCELLED,
+    NO_SHOW,
+    DELETED
+}
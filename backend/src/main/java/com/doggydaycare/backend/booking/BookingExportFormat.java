@@ -0,0 +1,31 @@
+package com.doggydaycare.backend.booking;
+
+import org.springframework.http.MediaType;
+
+/**
+ * File formats for the booking export.
+ */
+public enum BookingExportFormat {
+
+    /** Comma-separated values with a header row (RFC 4180 quoting). */
+    CSV(new MediaType("text", "csv"), "csv"),
+
+    /** One JSON booking per line. */
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    BookingExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
@@ -0,0 +1,134 @@
+package com.doggydaycare.backend.booking;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Writes bookings straight from a database cursor to the response.
+ * <p>
+ * Only one row and the writer's buffer are held at a time, so heap use does not grow
+ * with the size of the export. The export reads in one read-only transaction, which
+ * keeps it consistent but also holds a pooled connection until the client has read it all.
+ */
+@Service
+public class BookingExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String CSV_HEADER = String.join(",",
+        "id", "date", "dogId", "dogName", "bookedById", "status",
+        "expectedCheckInTime", "expectedCheckOutTime", "actualCheckInTime", "actualCheckOutTime",
+        "notes", "createdAt", "updatedAt");
+
+    private final BookingRepository bookingRepository;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BookingExportService(
+        BookingRepository bookingRepository,
+        JsonMapper jsonMapper,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.bookingRepository = bookingRepository;
+        this.jsonMapper = jsonMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Checks the filters now and returns a body that streams the matching
+     * non-deleted bookings, ordered by date, when the response is written.
+     * No statuses means every status.
+     */
+    public StreamingResponseBody export(
+        LocalDate from,
+        LocalDate to,
+        Collection<BookingStatus> statuses,
+        BookingExportFormat format
+    ) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("from and to are required");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("to must not be before from");
+        }
+        Set<BookingStatus> wanted = statuses == null || statuses.isEmpty()
+            ? EnumSet.allOf(BookingStatus.class)
+            : EnumSet.copyOf(statuses);
+
+        return output -> readOnlyTransaction.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+            try (Stream<BookingResponse> rows = bookingRepository.streamForExport(from, to, wanted)) {
+                write(rows.iterator(), format, writer);
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void write(Iterator<BookingResponse> rows, BookingExportFormat format, Writer writer) throws IOException {
+        if (format == BookingExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+
+        int written = 0;
+        while (rows.hasNext()) {
+            BookingResponse row = rows.next();
+            switch (format) {
+                case CSV -> writeCsv(row, writer);
+                case NDJSON -> {
+                    writer.write(jsonMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+            }
+            // Push rows out regularly so the client sees progress on large exports
+            if (++written % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+    }
+
+    private static void writeCsv(BookingResponse row, Writer writer) throws IOException {
+        Object[] values = {
+            row.id(), row.date(), row.dogId(), row.dogName(), row.bookedById(), row.status(),
+            row.expectedCheckInTime(), row.expectedCheckOutTime(),
+            row.actualCheckInTime(), row.actualCheckOutTime(),
+            row.notes(), row.createdAt(), row.updatedAt()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(csvField(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,12 @@
+package com.doggydaycare.backend.booking;
+
+import java.util.List;
+
+/**
+ * A capped list of bookings, newest first.
+ * truncated is true when older bookings were left out.
+ */
+public record BookingList(
+    List<BookingResponse> items,
+    boolean truncated
+) {}
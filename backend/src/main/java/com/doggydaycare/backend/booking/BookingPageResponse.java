@@ -0,0 +1,16 @@
+package com.doggydaycare.backend.booking;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of bookings ordered by (date, id).
+ * Pass nextAfterDate/nextAfterId back to fetch the following page.
+ */
+public record BookingPageResponse(
+    List<BookingResponse> items,
+    boolean hasNext,
+    LocalDate nextAfterDate,
+    UUID nextAfterId
+) {}
@@ -0,0 +1,39 @@
+package com.doggydaycare.backend.booking;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Books the same dog on the given weekdays between startDate and endDate (inclusive),
+ * e.g. every MONDAY, WEDNESDAY and FRIDAY for a term.
+ */
+public record BookingRecurrenceRequest(
+    @NotNull(message = "Dog id is required")
+    UUID dogId,
+
+    @NotNull(message = "Booked by (user ID) is required")
+    UUID bookedById,
+
+    @NotNull(message = "Start date is required")
+    LocalDate startDate,
+
+    @NotNull(message = "End date is required")
+    LocalDate endDate,
+
+    @NotEmpty(message = "At least one weekday is required")
+    Set<DayOfWeek> daysOfWeek,
+
+    @NotNull(message = "Check in time is required")
+    LocalTime expectedCheckInTime,
+
+    @NotNull(message = "Check out time is required")
+    LocalTime expectedCheckOutTime,
+
+    String notes
+) {}
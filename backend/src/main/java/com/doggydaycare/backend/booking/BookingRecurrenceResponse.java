@@ -0,0 +1,9 @@
+package com.doggydaycare.backend.booking;
+
+import java.util.List;
+
+public record BookingRecurrenceResponse(
+    int created,
+    int skipped,
+    List<BookingDateResult> results
+) {}
@@ -1,26 +1,178 @@
 package com.doggydaycare.backend.booking;
 
 import com.doggydaycare.backend.dog.DogEntity;
-import com.doggydaycare.backend.user.UserEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface BookingRepository extends JpaRepository<BookingEntity, UUID> {
 
-    List<BookingEntity> findByDateAndDeletedFalse(LocalDate date);
+    /* =======================
+       Response projections
+       ======================= */
+
+    // Dog name is fetched via a join and the user id straight from the FK,
+    // so list reads are a single query instead of one lazy load per row.
+    String RESPONSE_SELECT = """
+        select new com.doggydaycare.backend.booking.BookingResponse(
+            b.id, d.id, d.name, b.bookedBy.id, b.date,
+            b.expectedCheckInTime, b.expectedCheckOutTime,
+            b.actualCheckInTime, b.actualCheckOutTime,
+            b.status, b.notes, b.createdAt, b.updatedAt)
+        from BookingEntity b
+        join b.dog d
+        """;
+
+    @Query(RESPONSE_SELECT + "where b.date = :date and b.deleted = false")
+    List<BookingResponse> findResponsesByDate(LocalDate date);
+
+    @Query(RESPONSE_SELECT + "where d.id = :dogId and b.deleted = false")
+    List<BookingResponse> findResponsesByDogId(UUID dogId);
+
+    @Query(RESPONSE_SELECT + "where b.bookedBy.id = :userId and b.deleted = false")
+    List<BookingResponse> findResponsesByBookedById(UUID userId);
+
+    @Query(RESPONSE_SELECT + "where b.status = :status and b.deleted = false")
+    List<BookingResponse> findResponsesByStatus(BookingStatus status);
+
+    /* =======================
+       Paginated listing (keyset on date, id)
+       ======================= */
+
+    @Query(RESPONSE_SELECT + """
+        where b.deleted = false
+        order by b.date, b.id
+        """)
+    List<BookingResponse> findFirstPage(Limit limit);
+
+    @Query(RESPONSE_SELECT + """
+        where b.deleted = false
+          and (b.date > :afterDate or (b.date = :afterDate and b.id > :afterId))
+        order by b.date, b.id
+        """)
+    List<BookingResponse> findPageAfter(LocalDate afterDate, UUID afterId, Limit limit);
 
-    List<BookingEntity> findByDogAndDeletedFalse(DogEntity dog);
+    // Newest first, so a capped read keeps today's and upcoming bookings.
+    @Query(RESPONSE_SELECT + """
+        where b.deleted = false
+        order by b.date desc, b.id desc
+        """)
+    List<BookingResponse> findLatest(Limit limit);
 
-    List<BookingEntity> findByBookedByAndDeletedFalse(UserEntity user);
+    /* =======================
+       Export (streamed)
+       ======================= */
 
-    List<BookingEntity> findByStatusAndDeletedFalse(BookingStatus status);
+    // Rows come from a JDBC cursor in fetch-size chunks and are mapped one at a time.
+    // Projections never enter the persistence context, so nothing accumulates there.
+    // Must be consumed inside a transaction and closed.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(RESPONSE_SELECT + """
+        where b.deleted = false
+          and b.date between :from and :to
+          and b.status in :statuses
+        order by b.date, b.id
+        """)
+    Stream<BookingResponse> streamForExport(LocalDate from, LocalDate to, Collection<BookingStatus> statuses);
+
+    /* =======================
+       Daily roster
+       ======================= */
+
+    // Owner is the dog's owner; a dog without one has no owner id or name
+    @Query("""
+        select new com.doggydaycare.backend.booking.RosterEntry(
+            b.id, d.id, d.name, u.id,
+            case when u.id is null then null
+                 else trim(concat(coalesce(u.firstName, ''), ' ', coalesce(u.lastName, ''))) end,
+            b.status, b.expectedCheckInTime, b.expectedCheckOutTime,
+            b.actualCheckInTime, b.actualCheckOutTime, b.notes)
+        from BookingEntity b
+        join b.dog d
+        left join d.user u
+        where b.date = :date and b.deleted = false
+        """)
+    List<RosterEntry> findRosterEntriesByDate(LocalDate date);
+
+    /* =======================
+       Capacity
+       ======================= */
+
+    String OCCUPYING_SLOT_SELECT = """
+        select new com.doggydaycare.backend.booking.BookingSlot(
+            b.date, b.expectedCheckInTime, b.expectedCheckOutTime)
+        from BookingEntity b
+        where b.deleted = false
+          and b.status not in (
+              com.doggydaycare.backend.booking.BookingStatus.CANCELLED,
+              com.doggydaycare.backend.booking.BookingStatus.NO_SHOW)
+        """;
+
+    @Query(OCCUPYING_SLOT_SELECT + "and b.date >= :from")
+    List<BookingSlot> findOccupyingSlotsFrom(LocalDate from);
+
+    @Query(OCCUPYING_SLOT_SELECT + "and b.date between :from and :to")
+    List<BookingSlot> findOccupyingSlotsBetween(LocalDate from, LocalDate to);
+
+    /* =======================
+       NO_SHOW sweep
+       ======================= */
+
+    @Query("""
+        select b.id from BookingEntity b
+        where b.status = com.doggydaycare.backend.booking.BookingStatus.CONFIRMED
+          and b.date < :before
+          and b.actualCheckInTime is null
+          and b.deleted = false
+        """)
+    List<UUID> findUnattendedIdsBefore(LocalDate before, Limit limit);
+
+    // Bulk update bypasses auditing, so updatedAt is set explicitly
+    @Modifying
+    @Query("""
+        update BookingEntity b
+        set b.status = com.doggydaycare.backend.booking.BookingStatus.NO_SHOW,
+            b.updatedAt = :now
+        where b.id in :ids
+          and b.status = com.doggydaycare.backend.booking.BookingStatus.CONFIRMED
+          and b.actualCheckInTime is null
+        """)
+    int markNoShow(Collection<UUID> ids, LocalDateTime now);
+
+    // Loads bookings for batch changes and their events, with dog and owner in the same query
+    @Query("""
+        select b from BookingEntity b
+        join fetch b.dog d
+        left join fetch d.user
+        where b.id in :ids
+        """)
+    List<BookingEntity> findAllWithDogAndOwnerByIdIn(Collection<UUID> ids);
 
     /* =======================
        Existence / validation
        ======================= */
 
     boolean existsByDogAndDateAndDeletedFalse(DogEntity dog, LocalDate date);
+
+    @Query("""
+        select b.date from BookingEntity b
+        where b.dog.id = :dogId
+          and b.date between :from and :to
+          and b.deleted = false
+        """)
+    List<LocalDate> findBookedDates(UUID dogId, LocalDate from, LocalDate to);
 }
@@ -19,4 +19,26 @@ public record BookingResponse(
     String notes,
     LocalDateTime createdAt,
     LocalDateTime updatedAt
-) {}
+) {
+
+    /**
+     * Maps entity to response DTO.
+     */
+    public static BookingResponse from(BookingEntity booking) {
+        return new BookingResponse(
+            booking.getId(),
+            booking.getDog().getId(),
+            booking.getDog().getName(),
+            booking.getBookedBy().getId(),
+            booking.getDate(),
+            booking.getExpectedCheckInTime(),
+            booking.getExpectedCheckOutTime(),
+            booking.getActualCheckInTime(),
+            booking.getActualCheckOutTime(),
+            booking.getStatus(),
+            booking.getNotes(),
+            booking.getCreatedAt(),
+            booking.getUpdatedAt()
+        );
+    }
+}
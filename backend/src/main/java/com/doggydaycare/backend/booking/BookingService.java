@@ -4,16 +4,29 @@ import com.doggydaycare.backend.dog.DogEntity;
 import com.doggydaycare.backend.dog.DogRepository;
 import com.doggydaycare.backend.user.UserEntity;
 import com.doggydaycare.backend.user.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+@Timed(value = "booking.service", description = "BookingService calls", histogram = true)
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -22,11 +35,20 @@ public class BookingService {
     private static final String BOOKING_NOT_FOUND = "Booking not found with id: ";
     private static final String DOG_NOT_FOUND = "Dog not found with id: ";
     private static final String USER_NOT_FOUND = "User not found with id: ";
+    private static final String BOOKING_CONFLICT = "A booking already exists for this dog on ";
+    private static final String FULLY_BOOKED = "The daycare is fully booked on ";
+    private static final String LIVE_BOOKING_CONSTRAINT = "uk_booking_dog_date_live";
+    private static final int MAX_RECURRENCE_DAYS = 366;
+
+    private static final int MAX_PAGE_SIZE = 200;
+    static final int MAX_UNPAGED_ROWS = 1000;
+    private static final int MAX_BATCH_SIZE = 200;
 
     private final BookingRepository bookingRepository;
     private final DogRepository dogRepository;
     private final UserRepository userRepository;
-
+    private final BookingCapacityService capacityService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /* =======================
        Create
@@ -36,6 +58,9 @@ public class BookingService {
      * Creates a new booking.
      * A booking is automatically confirmed if no booking exists
      * for the same dog on the same date.
+     * The exists check is only a fast path; concurrent creates for the same
+     * dog and day are arbitrated by the uk_booking_dog_date_live unique key.
+     * The booking must also fit within the daycare's capacity for the day.
      */
     @Transactional
     public BookingResponse createBooking(BookingCreateRequest request) {
@@ -50,11 +75,11 @@ public class BookingService {
 
         // Enforce one booking per dog per day
         if (bookingRepository.existsByDogAndDateAndDeletedFalse(dog, request.date())) {
-            throw new IllegalStateException(
-                "A booking already exists for this dog on " + request.date()
-            );
+            throw new BookingConflictException(BOOKING_CONFLICT + request.date());
         }
 
+        capacityService.acquire(request.date(), request.expectedCheckInTime(), request.expectedCheckOutTime());
+
         BookingEntity booking = BookingEntity.builder()
             .date(request.date())
             .expectedCheckInTime(request.expectedCheckInTime())
@@ -66,8 +91,86 @@ public class BookingService {
             .deleted(false)
             .build();
 
-        BookingEntity saved = bookingRepository.save(booking);
-        return toResponse(saved);
+        BookingEntity saved = saveAndFlush(booking);
+        BookingResponse response = BookingResponse.from(saved);
+        publish(BookingEventType.CREATED, saved, response, null, null);
+        return response;
+    }
+
+    /**
+     * Creates one booking per matching weekday between startDate and endDate.
+     * Dates where the dog is already booked or the daycare is full
+     * are skipped and reported; the rest are inserted in JDBC batches.
+     */
+    @Transactional
+    public BookingRecurrenceResponse createRecurringBookings(BookingRecurrenceRequest request) {
+        if (request.endDate().isBefore(request.startDate())) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        // Both ends are included, so an end date MAX_RECURRENCE_DAYS after the start is one day too many
+        if (ChronoUnit.DAYS.between(request.startDate(), request.endDate()) + 1 > MAX_RECURRENCE_DAYS) {
+            throw new IllegalArgumentException(
+                "A recurring booking may span at most " + MAX_RECURRENCE_DAYS + " days"
+            );
+        }
+
+        List<LocalDate> dates = request.startDate()
+            .datesUntil(request.endDate().plusDays(1))
+            .filter(date -> request.daysOfWeek().contains(date.getDayOfWeek()))
+            .toList();
+        if (dates.isEmpty()) {
+            throw new IllegalArgumentException("No dates match the requested weekdays");
+        }
+
+        // Validate dog and user once for the whole series
+        DogEntity dog = dogRepository.findById(request.dogId())
+            .orElseThrow(() -> new EntityNotFoundException(DOG_NOT_FOUND + request.dogId()));
+        UserEntity bookedBy = userRepository.findById(request.bookedById())
+            .orElseThrow(() -> new EntityNotFoundException(USER_NOT_FOUND + request.bookedById()));
+
+        // One range query finds every conflicting date
+        Set<LocalDate> alreadyBooked = new HashSet<>(
+            bookingRepository.findBookedDates(dog.getId(), dates.getFirst(), dates.getLast())
+        );
+
+        capacityService.preload(dates.getFirst(), dates.getLast());
+        Map<LocalDate, String> skipped = new HashMap<>();
+        for (LocalDate date : dates) {
+            if (alreadyBooked.contains(date)) {
+                skipped.put(date, BOOKING_CONFLICT + date);
+            } else if (!capacityService.tryAcquire(
+                date, request.expectedCheckInTime(), request.expectedCheckOutTime())) {
+                skipped.put(date, FULLY_BOOKED + date);
+            }
+        }
+
+        List<BookingEntity> toCreate = dates.stream()
+            .filter(date -> !skipped.containsKey(date))
+            .map(date -> BookingEntity.builder()
+                .date(date)
+                .expectedCheckInTime(request.expectedCheckInTime())
+                .expectedCheckOutTime(request.expectedCheckOutTime())
+                .notes(request.notes())
+                .status(BookingStatus.CONFIRMED)
+                .dog(dog)
+                .bookedBy(bookedBy)
+                .deleted(false)
+                .build())
+            .toList();
+
+        Map<LocalDate, UUID> createdIds = new HashMap<>();
+        for (BookingEntity saved : saveAllAndFlush(toCreate)) {
+            createdIds.put(saved.getDate(), saved.getId());
+            publish(BookingEventType.CREATED, saved, BookingResponse.from(saved), null, null);
+        }
+
+        List<BookingDateResult> results = dates.stream()
+            .map(date -> createdIds.containsKey(date)
+                ? new BookingDateResult(date, true, createdIds.get(date), null)
+                : new BookingDateResult(date, false, null, skipped.get(date)))
+            .toList();
+
+        return new BookingRecurrenceResponse(createdIds.size(), dates.size() - createdIds.size(), results);
     }
 
     /* =======================
@@ -75,62 +178,85 @@ public class BookingService {
        ======================= */
 
     /**
-     * Returns all non-deleted bookings.
+     * Returns the newest non-deleted bookings, capped at {@value #MAX_UNPAGED_ROWS} rows.
+     * The result is flagged as truncated when older bookings were left out;
+     * use {@link #getBookingPage} to read everything.
      */
-    public List<BookingResponse> getAllBookings() {
-        return bookingRepository.findAll().stream()
-            .filter(booking -> !booking.isDeleted())
-            .map(this::toResponse)
-            .toList();
+    public BookingList getAllBookings() {
+        // Fetch one extra row to know whether anything was left out
+        List<BookingResponse> rows = bookingRepository.findLatest(Limit.of(MAX_UNPAGED_ROWS + 1));
+        boolean truncated = rows.size() > MAX_UNPAGED_ROWS;
+        return new BookingList(truncated ? rows.subList(0, MAX_UNPAGED_ROWS) : rows, truncated);
+    }
+
+    /**
+     * Returns one page of non-deleted bookings ordered by (date, id).
+     * The cursor is the (date, id) of the last booking on the previous page;
+     * omit both values to start from the beginning.
+     */
+    public BookingPageResponse getBookingPage(LocalDate afterDate, UUID afterId, int size) {
+        if ((afterDate == null) != (afterId == null)) {
+            throw new IllegalArgumentException("afterDate and afterId must be provided together");
+        }
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        // Fetch one extra row to know whether another page exists
+        Limit limit = Limit.of(pageSize + 1);
+        List<BookingResponse> rows = afterDate == null
+            ? bookingRepository.findFirstPage(limit)
+            : bookingRepository.findPageAfter(afterDate, afterId, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<BookingResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+        if (!hasNext) {
+            return new BookingPageResponse(items, false, null, null);
+        }
+        BookingResponse last = items.getLast();
+        return new BookingPageResponse(items, true, last.date(), last.id());
     }
 
     /**
      * Returns a single booking by id.
      */
     public BookingResponse getBookingById(UUID id) {
-        return toResponse(findBookingById(id));
+        return BookingResponse.from(findBookingById(id));
     }
 
     /**
      * Returns all bookings for a specific date.
      */
     public List<BookingResponse> getBookingsByDate(LocalDate date) {
-        return bookingRepository.findByDateAndDeletedFalse(date).stream()
-            .map(this::toResponse)
-            .toList();
+        return bookingRepository.findResponsesByDate(date);
     }
 
     /**
      * Returns all bookings for a specific dog.
      */
     public List<BookingResponse> getBookingsByDogId(UUID dogId) {
-        DogEntity dog = dogRepository.findById(dogId)
-            .orElseThrow(() -> new EntityNotFoundException(DOG_NOT_FOUND + dogId));
+        if (!dogRepository.existsById(dogId)) {
+            throw new EntityNotFoundException(DOG_NOT_FOUND + dogId);
+        }
 
-        return bookingRepository.findByDogAndDeletedFalse(dog).stream()
-            .map(this::toResponse)
-            .toList();
+        return bookingRepository.findResponsesByDogId(dogId);
     }
 
     /**
      * Returns all bookings created by a specific user.
      */
     public List<BookingResponse> getBookingsByUserId(UUID userId) {
-        UserEntity user = userRepository.findById(userId)
-            .orElseThrow(() -> new EntityNotFoundException(USER_NOT_FOUND + userId));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(USER_NOT_FOUND + userId);
+        }
 
-        return bookingRepository.findByBookedByAndDeletedFalse(user).stream()
-            .map(this::toResponse)
-            .toList();
+        return bookingRepository.findResponsesByBookedById(userId);
     }
 
     /**
      * Returns bookings by booking status.
      */
     public List<BookingResponse> getBookingsByStatus(BookingStatus status) {
-        return bookingRepository.findByStatusAndDeletedFalse(status).stream()
-            .map(this::toResponse)
-            .toList();
+        return bookingRepository.findResponsesByStatus(status);
     }
 
     /* =======================
@@ -144,9 +270,14 @@ public class BookingService {
     @Transactional
     public BookingResponse updateBooking(UUID id, BookingUpdateRequest request) {
         BookingEntity booking = findBookingById(id);
+        BookingSlot before = slotOf(booking);
 
-        if (request.date() != null) {
+        if (request.date() != null && !request.date().equals(booking.getDate())) {
+            if (bookingRepository.existsByDogAndDateAndDeletedFalse(booking.getDog(), request.date())) {
+                throw new BookingConflictException(BOOKING_CONFLICT + request.date());
+            }
             booking.setDate(request.date());
+            saveAndFlush(booking);
         }
         if (request.expectedCheckInTime() != null) {
             booking.setExpectedCheckInTime(request.expectedCheckInTime());
@@ -158,7 +289,23 @@ public class BookingService {
             booking.setNotes(request.notes());
         }
 
-        return toResponse(booking);
+        BookingSlot after = slotOf(booking);
+        if (booking.getStatus().occupiesPlace() && !after.equals(before)) {
+            if (after.date().equals(before.date())) {
+                // Same day: the booking already holds a place, only its slots change
+                capacityService.moveWithinDay(after.date(),
+                    before.expectedCheckInTime(), before.expectedCheckOutTime(),
+                    after.expectedCheckInTime(), after.expectedCheckOutTime());
+            } else {
+                // Moving a booking takes a place on the new date before freeing the old one
+                capacityService.acquire(after.date(), after.expectedCheckInTime(), after.expectedCheckOutTime());
+                releasePlace(before);
+            }
+        }
+
+        BookingResponse response = BookingResponse.from(booking);
+        publish(BookingEventType.UPDATED, booking, response, booking.getStatus(), before.date());
+        return response;
     }
 
     /* =======================
@@ -171,8 +318,11 @@ public class BookingService {
     @Transactional
     public BookingResponse checkIn(UUID id) {
         BookingEntity booking = findBookingById(id);
+        BookingStatus previousStatus = booking.getStatus();
         booking.checkIn();
-        return toResponse(booking);
+        BookingResponse response = BookingResponse.from(booking);
+        publish(BookingEventType.CHECKED_IN, booking, response, previousStatus, null);
+        return response;
     }
 
     /**
@@ -181,8 +331,11 @@ public class BookingService {
     @Transactional
     public BookingResponse checkOut(UUID id) {
         BookingEntity booking = findBookingById(id);
+        BookingStatus previousStatus = booking.getStatus();
         booking.checkOut();
-        return toResponse(booking);
+        BookingResponse response = BookingResponse.from(booking);
+        publish(BookingEventType.CHECKED_OUT, booking, response, previousStatus, null);
+        return response;
     }
 
     /**
@@ -191,12 +344,30 @@ public class BookingService {
     @Transactional
     public BookingResponse cancelBooking(UUID id) {
         BookingEntity booking = findBookingById(id);
+        BookingStatus previousStatus = booking.getStatus();
         booking.cancel();
-        return toResponse(booking);
+        releasePlace(slotOf(booking));
+        BookingResponse response = BookingResponse.from(booking);
+        publish(BookingEventType.CANCELLED, booking, response, previousStatus, null);
+        return response;
     }
 
+    /**
+     * Checks in several bookings at once. Each booking succeeds or fails on its own;
+     * a failure is reported in its result and does not stop the others.
+     */
+    @Transactional
+    public BookingBatchResponse checkInAll(List<UUID> ids) {
+        return applyToAll(ids, BookingEventType.CHECKED_IN, BookingEntity::checkIn);
+    }
 
-
+    /**
+     * Checks out several bookings at once, reporting a result per booking like {@link #checkInAll}.
+     */
+    @Transactional
+    public BookingBatchResponse checkOutAll(List<UUID> ids) {
+        return applyToAll(ids, BookingEventType.CHECKED_OUT, BookingEntity::checkOut);
+    }
 
     /* =======================
        Delete (soft delete)
@@ -209,12 +380,77 @@ public class BookingService {
     public void deleteBooking(UUID id) {
         BookingEntity booking = findBookingById(id);
         booking.setDeleted(true);
+        if (booking.getStatus().occupiesPlace()) {
+            releasePlace(slotOf(booking));
+        }
+        publish(BookingEventType.DELETED, booking, BookingResponse.from(booking), booking.getStatus(), null);
     }
 
     /* =======================
        Internal helpers
        ======================= */
 
+    /**
+     * Loads the bookings with their dogs and owners in one query, applies the
+     * step to each and flushes the changes together, so the updates go out as
+     * JDBC batches instead of one round trip per booking.
+     */
+    private BookingBatchResponse applyToAll(
+        List<UUID> ids,
+        BookingEventType type,
+        Consumer<BookingEntity> step
+    ) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one booking id is required");
+        }
+        Set<UUID> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch may contain at most " + MAX_BATCH_SIZE + " bookings");
+        }
+
+        Map<UUID, BookingEntity> bookings = new HashMap<>();
+        for (BookingEntity booking : bookingRepository.findAllWithDogAndOwnerByIdIn(distinctIds)) {
+            if (!booking.isDeleted()) {
+                bookings.put(booking.getId(), booking);
+            }
+        }
+
+        Map<UUID, BookingBatchResult> results = new HashMap<>();
+        Map<UUID, BookingStatus> previousStatuses = new LinkedHashMap<>();
+        for (UUID id : distinctIds) {
+            BookingEntity booking = bookings.get(id);
+            if (booking == null) {
+                results.put(id, new BookingBatchResult(id, false, null, BOOKING_NOT_FOUND + id));
+                continue;
+            }
+            BookingStatus previousStatus = booking.getStatus();
+            try {
+                step.accept(booking);
+                previousStatuses.put(id, previousStatus);
+            } catch (IllegalStateException e) {
+                results.put(id, new BookingBatchResult(id, false, null, e.getMessage()));
+            }
+        }
+
+        bookingRepository.flush();
+
+        // Responses are built after the flush so they carry the new updatedAt
+        previousStatuses.forEach((id, previousStatus) -> {
+            BookingEntity booking = bookings.get(id);
+            BookingResponse response = BookingResponse.from(booking);
+            publish(type, booking, response, previousStatus, null);
+            results.put(id, new BookingBatchResult(id, true, response, null));
+        });
+
+        int succeeded = previousStatuses.size();
+        return new BookingBatchResponse(
+            succeeded,
+            distinctIds.size() - succeeded,
+            distinctIds.stream().map(results::get).toList()
+        );
+    }
+
+
     /**
      * Returns a non-deleted booking or throws if not found.
      */
@@ -225,23 +461,59 @@ public class BookingService {
     }
 
     /**
-     * Maps entity to response DTO.
-     */
-    private BookingResponse toResponse(BookingEntity booking) {
-        return new BookingResponse(
-            booking.getId(),
-            booking.getDog().getId(),
-            booking.getDog().getName(),
-            booking.getBookedBy().getId(),
-            booking.getDate(),
-            booking.getExpectedCheckInTime(),
-            booking.getExpectedCheckOutTime(),
-            booking.getActualCheckInTime(),
-            booking.getActualCheckOutTime(),
-            booking.getStatus(),
-            booking.getNotes(),
-            booking.getCreatedAt(),
-            booking.getUpdatedAt()
-        );
+     * Flushes the booking so a unique key violation surfaces here
+     * and is reported as a conflict instead of failing at commit.
+     */
+    private BookingEntity saveAndFlush(BookingEntity booking) {
+        try {
+            return bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException e) {
+            if (isLiveBookingConflict(e)) {
+                throw new BookingConflictException(BOOKING_CONFLICT + booking.getDate());
+            }
+            throw e;
+        }
+    }
+
+    private List<BookingEntity> saveAllAndFlush(List<BookingEntity> bookings) {
+        try {
+            return bookingRepository.saveAllAndFlush(bookings);
+        } catch (DataIntegrityViolationException e) {
+            if (isLiveBookingConflict(e)) {
+                throw new BookingConflictException(
+                    "A concurrent booking was created for this dog on one of the requested dates"
+                );
+            }
+            throw e;
+        }
+    }
+
+    private static BookingSlot slotOf(BookingEntity booking) {
+        return new BookingSlot(booking.getDate(), booking.getExpectedCheckInTime(), booking.getExpectedCheckOutTime());
+    }
+
+    private void releasePlace(BookingSlot slot) {
+        capacityService.release(slot.date(), slot.expectedCheckInTime(), slot.expectedCheckOutTime());
+    }
+
+    /**
+     * Publishes the change to listeners such as the daily roster.
+     * Transactional listeners receive it only once the change has committed.
+     */
+    private void publish(
+        BookingEventType type,
+        BookingEntity booking,
+        BookingResponse response,
+        BookingStatus previousStatus,
+        LocalDate previousDate
+    ) {
+        eventPublisher.publishEvent(BookingEvent.of(
+            type, response, booking.getDog().getUser(), previousStatus, previousDate
+        ));
+    }
+
+    private static boolean isLiveBookingConflict(DataIntegrityViolationException e) {
+        String cause = String.valueOf(e.getMostSpecificCause().getMessage());
+        return cause.toLowerCase(Locale.ROOT).contains(LIVE_BOOKING_CONSTRAINT);
     }
 }
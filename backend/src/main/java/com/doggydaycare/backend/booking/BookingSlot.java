@@ -0,0 +1,13 @@
+package com.doggydaycare.backend.booking;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * The part of a booking that counts towards capacity.
+ */
+public record BookingSlot(
+    LocalDate date,
+    LocalTime expectedCheckInTime,
+    LocalTime expectedCheckOutTime
+) {}
@@ -8,5 +8,12 @@ public enum BookingStatus {
     CHECKED_IN,
     CHECKED_OUT,
     CANCELLED,
-    NO_SHOW
+    NO_SHOW;
+
+    /**
+     * Whether a booking in this status takes up a place at the daycare.
+     */
+    public boolean occupiesPlace() {
+        return this != CANCELLED && this != NO_SHOW;
+    }
 }
@@ -0,0 +1,18 @@
+package com.doggydaycare.backend.booking;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Narrows a booking event stream. Null fields match everything.
+ * A booking moved away from the filtered date still matches, so clients see it leave.
+ */
+public record BookingStreamFilter(LocalDate date, UUID dogId, UUID ownerId) {
+
+    public boolean matches(BookingEvent event) {
+        BookingResponse booking = event.booking();
+        return (date == null || date.equals(booking.date()) || date.equals(event.previousDate()))
+            && (dogId == null || dogId.equals(booking.dogId()))
+            && (ownerId == null || ownerId.equals(event.ownerId()));
+    }
+}
@@ -0,0 +1,9 @@
+package com.doggydaycare.backend.booking;
+
+/**
+ * Sent to a subscriber that fell behind, before its next event.
+ * Clients should reload what they show, e.g. the daily roster.
+ *
+ * @param dropped events discarded since the last delivery
+ */
+public record BookingStreamOverflow(long dropped) {}
@@ -0,0 +1,34 @@
+package com.doggydaycare.backend.booking;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Limits for the booking event stream.
+ *
+ * @param bufferSize     events held per subscriber before the oldest are dropped
+ * @param maxSubscribers open streams accepted at once
+ * @param timeout        how long a stream stays open before the client has to reconnect
+ * @param heartbeat      idle time after which a keep-alive comment is sent
+ * @param reconnectDelay how long clients wait before reconnecting, sent as the first frame
+ */
+@ConfigurationProperties(prefix = "daycare.booking-stream")
+public record BookingStreamProperties(
+    @DefaultValue("256") int bufferSize,
+    @DefaultValue("10000") int maxSubscribers,
+    @DefaultValue("30m") Duration timeout,
+    @DefaultValue("25s") Duration heartbeat,
+    @DefaultValue("5s") Duration reconnectDelay
+) {
+
+    public BookingStreamProperties {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("daycare.booking-stream.buffer-size must be at least 1");
+        }
+        if (maxSubscribers < 1) {
+            throw new IllegalArgumentException("daycare.booking-stream.max-subscribers must be at least 1");
+        }
+    }
+}
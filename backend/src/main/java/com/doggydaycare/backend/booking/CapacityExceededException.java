@@ -0,0 +1,15 @@
+package com.doggydaycare.backend.booking;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a booking would exceed the daycare's daily or time slot capacity.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class CapacityExceededException extends IllegalStateException {
+
+    public CapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,55 @@
+package com.doggydaycare.backend.booking;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Map;
+
+/**
+ * Physical capacity of the daycare.
+ *
+ * @param dailyLimit          max bookings per day
+ * @param dailyLimitOverrides per-weekday replacements for dailyLimit
+ * @param opensAt             start of the first time slot
+ * @param closesAt            end of the last time slot
+ * @param slotLength          length of one time slot
+ * @param slotLimit           max dogs expected on site during one time slot
+ */
+@ConfigurationProperties(prefix = "daycare.capacity")
+public record CapacityProperties(
+    @DefaultValue("50") int dailyLimit,
+    Map<DayOfWeek, Integer> dailyLimitOverrides,
+    @DefaultValue("06:00") LocalTime opensAt,
+    @DefaultValue("19:00") LocalTime closesAt,
+    @DefaultValue("1h") Duration slotLength,
+    @DefaultValue("40") int slotLimit
+) {
+
+    public CapacityProperties {
+        dailyLimitOverrides = dailyLimitOverrides == null ? Map.of() : Map.copyOf(dailyLimitOverrides);
+        if (!closesAt.isAfter(opensAt)) {
+            throw new IllegalArgumentException("daycare.capacity.closes-at must be after opens-at");
+        }
+    }
+
+    public int dailyLimitFor(DayOfWeek day) {
+        return dailyLimitOverrides.getOrDefault(day, dailyLimit);
+    }
+
+    public int slotCount() {
+        long minutes = Duration.between(opensAt, closesAt).toMinutes();
+        return (int) Math.ceilDiv(minutes, slotLength.toMinutes());
+    }
+
+    /**
+     * Index of the slot containing the given time, clamped to opening hours.
+     */
+    public int slotOf(LocalTime time) {
+        long minutes = Duration.between(opensAt, time).toMinutes();
+        int slot = (int) Math.floorDiv(minutes, slotLength.toMinutes());
+        return Math.clamp(slot, 0, slotCount() - 1);
+    }
+}
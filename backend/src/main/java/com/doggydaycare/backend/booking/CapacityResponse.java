@@ -0,0 +1,12 @@
+package com.doggydaycare.backend.booking;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record CapacityResponse(
+    LocalDate date,
+    int dailyLimit,
+    int booked,
+    int slotLimit,
+    List<Integer> slotOccupancy
+) {}
@@ -0,0 +1,92 @@
+package com.doggydaycare.backend.booking;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Booking and per-slot counters for one date.
+ * All access is synchronized on the instance, so admissions for
+ * different dates never contend with each other.
+ */
+final class DailyOccupancy {
+
+    private final int[] slots;
+    private int booked;
+
+    DailyOccupancy(int slotCount) {
+        this.slots = new int[slotCount];
+    }
+
+    /**
+     * Adds a booking spanning firstSlot..lastSlot if both the daily
+     * and every slot limit still have room.
+     */
+    synchronized boolean tryAdd(int dailyLimit, int slotLimit, int firstSlot, int lastSlot) {
+        if (booked >= dailyLimit) {
+            return false;
+        }
+        for (int slot = firstSlot; slot <= lastSlot; slot++) {
+            if (slots[slot] >= slotLimit) {
+                return false;
+            }
+        }
+        add(firstSlot, lastSlot);
+        return true;
+    }
+
+    /**
+     * Adds a booking without checking limits, used when loading existing bookings.
+     */
+    synchronized void add(int firstSlot, int lastSlot) {
+        booked++;
+        for (int slot = firstSlot; slot <= lastSlot; slot++) {
+            slots[slot]++;
+        }
+    }
+
+    /**
+     * Moves a booking on this day from oldFirst..oldLast to newFirst..newLast if every slot
+     * it newly covers has room. The daily count and slots in both ranges stay as they are,
+     * and the slots only the old range covered are still held; see {@link #releaseSlots}.
+     */
+    synchronized boolean tryMoveSlots(int slotLimit, int oldFirst, int oldLast, int newFirst, int newLast) {
+        for (int slot = newFirst; slot <= newLast; slot++) {
+            if ((slot < oldFirst || slot > oldLast) && slots[slot] >= slotLimit) {
+                return false;
+            }
+        }
+        for (int slot = newFirst; slot <= newLast; slot++) {
+            if (slot < oldFirst || slot > oldLast) {
+                slots[slot]++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Frees the slots of firstSlot..lastSlot outside keptFirst..keptLast,
+     * completing or undoing a {@link #tryMoveSlots} move.
+     */
+    synchronized void releaseSlots(int firstSlot, int lastSlot, int keptFirst, int keptLast) {
+        for (int slot = firstSlot; slot <= lastSlot; slot++) {
+            if (slot < keptFirst || slot > keptLast) {
+                slots[slot] = Math.max(0, slots[slot] - 1);
+            }
+        }
+    }
+
+    synchronized void remove(int firstSlot, int lastSlot) {
+        booked = Math.max(0, booked - 1);
+        for (int slot = firstSlot; slot <= lastSlot; slot++) {
+            slots[slot] = Math.max(0, slots[slot] - 1);
+        }
+    }
+
+    synchronized int booked() {
+        return booked;
+    }
+
+    synchronized List<Integer> slotCounts() {
+        return Arrays.stream(slots).boxed().toList();
+    }
+}
@@ -0,0 +1,7 @@
+package com.doggydaycare.backend.booking;
+
+/**
+ * A roster snapshot together with the entity tag clients revalidate it with.
+ * The tag changes whenever the roster for the date changes.
+ */
+public record DailyRoster(String etag, DailyRosterResponse response) {}
@@ -0,0 +1,15 @@
+package com.doggydaycare.backend.booking;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The roster for one day, grouped by booking status.
+ * Every status is present, with an empty list if no booking has it.
+ */
+public record DailyRosterResponse(
+    LocalDate date,
+    int total,
+    Map<BookingStatus, List<RosterEntry>> bookingsByStatus
+) {}
@@ -0,0 +1,187 @@
+package com.doggydaycare.backend.booking;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory roster per date for the staff dashboard: who is expected,
+ * who is in and who has left, with dog and owner names.
+ * <p>
+ * A date is loaded with one query the first time it is asked for and then kept
+ * up to date from {@link BookingEvent}s once their transaction commits, so
+ * repeated polls are served without touching the database. Each change gives
+ * the date a new entity tag, which lets clients revalidate with If-None-Match.
+ */
+@Service
+public class DailyRosterService {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private static final Comparator<RosterEntry> ROSTER_ORDER = Comparator
+        .comparing(RosterEntry::expectedCheckInTime, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(RosterEntry::dogName, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(RosterEntry::bookingId);
+
+    private final BookingRepository bookingRepository;
+    private final Map<LocalDate, Snapshot> rosters = new ConcurrentHashMap<>();
+
+    // Tags are unique per process, so a tag from before a restart never matches
+    private final String instanceId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final AtomicLong versions = new AtomicLong();
+
+    // Bumped on every event; a load that overlaps an event is not cached
+    private final AtomicLong changes = new AtomicLong();
+
+    public DailyRosterService(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    /* =======================
+       Read
+       ======================= */
+
+    /**
+     * Returns the roster for a date, loading it on first use.
+     */
+    public DailyRoster getRoster(LocalDate date) {
+        Snapshot cached = rosters.get(date);
+        if (cached != null) {
+            return cached.roster();
+        }
+
+        Snapshot loaded = null;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long seen = changes.get();
+            loaded = snapshot(date, index(bookingRepository.findRosterEntriesByDate(date)));
+
+            // An event that committed while the query ran may be missing from the result
+            if (changes.get() == seen) {
+                Snapshot existing = rosters.putIfAbsent(date, loaded);
+                return (existing != null ? existing : loaded).roster();
+            }
+        }
+        // Bookings keep changing; answer with the freshest read without caching it
+        return loaded.roster();
+    }
+
+    /* =======================
+       Updates
+       ======================= */
+
+    /**
+     * Applies a committed booking change to the rosters already in memory.
+     * Dates that are not loaded are left alone; they are read fresh when first asked for.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingEvent event) {
+        changes.incrementAndGet();
+
+        BookingResponse booking = event.booking();
+        if (event.previousDate() != null && !event.previousDate().equals(booking.date())) {
+            rosters.computeIfPresent(event.previousDate(), (date, roster) -> roster.without(booking.id()));
+        }
+
+        if (event.type() == BookingEventType.DELETED) {
+            rosters.computeIfPresent(booking.date(), (date, roster) -> roster.without(booking.id()));
+        } else {
+            RosterEntry entry = toEntry(event);
+            rosters.computeIfPresent(booking.date(), (date, roster) -> roster.with(entry));
+        }
+    }
+
+    /**
+     * Drops rosters for past dates. They are reloaded on demand.
+     */
+    public void evictBefore(LocalDate date) {
+        changes.incrementAndGet();
+        rosters.keySet().removeIf(day -> day.isBefore(date));
+    }
+
+    /* =======================
+       Internal helpers
+       ======================= */
+
+    private Snapshot snapshot(LocalDate date, Map<UUID, RosterEntry> entries) {
+        Map<BookingStatus, List<RosterEntry>> byStatus = new EnumMap<>(BookingStatus.class);
+        for (BookingStatus status : BookingStatus.values()) {
+            byStatus.put(status, List.of());
+        }
+        byStatus.putAll(entries.values().stream()
+            .sorted(ROSTER_ORDER)
+            .collect(Collectors.groupingBy(RosterEntry::status, Collectors.toUnmodifiableList())));
+
+        String etag = "\"" + instanceId + "-" + versions.incrementAndGet() + "\"";
+        DailyRosterResponse response = new DailyRosterResponse(date, entries.size(), byStatus);
+        return new Snapshot(date, entries, new DailyRoster(etag, response));
+    }
+
+    private static Map<UUID, RosterEntry> index(List<RosterEntry> entries) {
+        return entries.stream().collect(Collectors.toMap(RosterEntry::bookingId, Function.identity()));
+    }
+
+    private static RosterEntry toEntry(BookingEvent event) {
+        BookingResponse booking = event.booking();
+        return new RosterEntry(
+            booking.id(),
+            booking.dogId(),
+            booking.dogName(),
+            event.ownerId(),
+            event.ownerName(),
+            booking.status(),
+            booking.expectedCheckInTime(),
+            booking.expectedCheckOutTime(),
+            booking.actualCheckInTime(),
+            booking.actualCheckOutTime(),
+            booking.notes()
+        );
+    }
+
+    /**
+     * An immutable roster for one date. Changes build a new snapshot,
+     * so readers never see a half-applied update.
+     */
+    private final class Snapshot {
+
+        private final LocalDate date;
+        private final Map<UUID, RosterEntry> entries;
+        private final DailyRoster roster;
+
+        private Snapshot(LocalDate date, Map<UUID, RosterEntry> entries, DailyRoster roster) {
+            this.date = date;
+            this.entries = entries;
+            this.roster = roster;
+        }
+
+        DailyRoster roster() {
+            return roster;
+        }
+
+        Snapshot with(RosterEntry entry) {
+            Map<UUID, RosterEntry> updated = new HashMap<>(entries);
+            updated.put(entry.bookingId(), entry);
+            return snapshot(date, updated);
+        }
+
+        Snapshot without(UUID bookingId) {
+            if (!entries.containsKey(bookingId)) {
+                return this;
+            }
+            Map<UUID, RosterEntry> updated = new HashMap<>(entries);
+            updated.remove(bookingId);
+            return snapshot(date, updated);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.doggydaycare.backend.booking;
+
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * One dog on the daily roster.
+ */
+public record RosterEntry(
+    UUID bookingId,
+    UUID dogId,
+    String dogName,
+    UUID ownerId,
+    String ownerName,
+    BookingStatus status,
+    LocalTime expectedCheckInTime,
+    LocalTime expectedCheckOutTime,
+    LocalTime actualCheckInTime,
+    LocalTime actualCheckOutTime,
+    String notes
+) {}
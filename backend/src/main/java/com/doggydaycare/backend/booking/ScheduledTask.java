@@ -1,44 +1,140 @@
 package com.doggydaycare.backend.booking;
 
-import lombok.RequiredArgsConstructor;
+import com.doggydaycare.backend.analytics.BookingAnalyticsService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Scheduled tasks for booking management.
+ * <p>
+ * Metrics: booking.no-show.sweep.duration and booking.no-show.sweep.rows
+ * describe the most recent NO_SHOW sweep.
  */
 @Component
-@RequiredArgsConstructor
 public class ScheduledTask {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ScheduledTask.class);
+
+    static final int NO_SHOW_BATCH_SIZE = 500;
+
     private final BookingRepository bookingRepository;
+    private final BookingCapacityService capacityService;
+    private final DailyRosterService rosterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingAnalyticsService analyticsService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong lastSweepMillis = new AtomicLong();
+    private final AtomicLong lastSweepRows = new AtomicLong();
+
+    public ScheduledTask(
+        BookingRepository bookingRepository,
+        BookingCapacityService capacityService,
+        DailyRosterService rosterService,
+        ApplicationEventPublisher eventPublisher,
+        BookingAnalyticsService analyticsService,
+        TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        this.bookingRepository = bookingRepository;
+        this.capacityService = capacityService;
+        this.rosterService = rosterService;
+        this.eventPublisher = eventPublisher;
+        this.analyticsService = analyticsService;
+        this.transactionTemplate = transactionTemplate;
+
+        TimeGauge.builder("booking.no-show.sweep.duration", lastSweepMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .description("Duration of the last NO_SHOW sweep")
+            .register(meterRegistry);
+        Gauge.builder("booking.no-show.sweep.rows", lastSweepRows, AtomicLong::get)
+            .description("Bookings marked NO_SHOW by the last sweep")
+            .baseUnit("rows")
+            .register(meterRegistry);
+    }
 
     /**
      * Automatically marks past bookings as NO_SHOW if they were
-     * never checked in on the actual date.
+     * never checked in on the actual date, then reconciles the analytics rollups.
      * Runs every night at 00:00.
      */
     @Scheduled(cron = "0 0 0 * * *")
-    @Transactional
     public void markPastBookingsAsNoShow() {
         LocalDate today = LocalDate.now();
+        NoShowSweepResult result = sweepNoShows(today);
+
+        // Past dates no longer take admissions or show on the dashboard, so their counters and rosters can go
+        capacityService.evictBefore(today);
+        rosterService.evictBefore(today);
 
-        // Find all bookings that are CONFIRMED, before today, and NOT checked in
-        List<BookingEntity> pastUnattendedBookings = bookingRepository
-            .findByStatusAndDeletedFalse(BookingStatus.CONFIRMED).stream()
-            .filter(b -> b.getDate().isBefore(today))
-            .filter(b -> b.getActualCheckInTime() == null)
-            .toList();
+        LOG.info("Marked {} bookings as NO_SHOW in {} batches ({} ms)",
+            result.affected(), result.batches(), result.elapsed().toMillis());
 
-        // Mark them as NO_SHOW
-        pastUnattendedBookings.forEach(b -> b.setStatus(BookingStatus.NO_SHOW));
+        // The sweep updates the rollups through its events; this catches anything that bypassed them
+        analyticsService.reconcileRecent();
+    }
 
-        if (!pastUnattendedBookings.isEmpty()) {
-            bookingRepository.saveAll(pastUnattendedBookings);
+    /**
+     * Marks CONFIRMED bookings before the given date that were never checked in
+     * as NO_SHOW, in batches of {@value #NO_SHOW_BATCH_SIZE}.
+     * Each batch runs in its own transaction, so memory use and lock time
+     * stay bounded however large the backlog is. A NO_SHOW {@link BookingEvent}
+     * is published for every booking a batch marks, once the batch commits.
+     */
+    NoShowSweepResult sweepNoShows(LocalDate today) {
+        long start = System.nanoTime();
+        int affected = 0;
+        int batches = 0;
+        int claimed;
+
+        do {
+            BatchResult batch = transactionTemplate.execute(status -> markNextBatch(today));
+            claimed = batch.claimed();
+            affected += batch.updated();
+            if (claimed > 0) {
+                batches++;
+            }
+        } while (claimed == NO_SHOW_BATCH_SIZE);
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        lastSweepMillis.set(elapsed.toMillis());
+        lastSweepRows.set(affected);
+        return new NoShowSweepResult(affected, batches, elapsed);
+    }
+
+    private BatchResult markNextBatch(LocalDate today) {
+        List<UUID> ids = bookingRepository.findUnattendedIdsBefore(today, Limit.of(NO_SHOW_BATCH_SIZE));
+        if (ids.isEmpty()) {
+            return new BatchResult(0, 0);
         }
+        int updated = bookingRepository.markNoShow(ids, LocalDateTime.now());
+
+        // The bulk update skips the persistence context, so read the rows back for their events
+        bookingRepository.findAllWithDogAndOwnerByIdIn(ids).stream()
+            .filter(booking -> booking.getStatus() == BookingStatus.NO_SHOW)
+            .forEach(booking -> eventPublisher.publishEvent(BookingEvent.of(
+                BookingEventType.NO_SHOW, BookingResponse.from(booking), booking.getDog().getUser(),
+                BookingStatus.CONFIRMED, null
+            )));
+        return new BatchResult(ids.size(), updated);
     }
+
+    private record BatchResult(int claimed, int updated) {}
+
+    record NoShowSweepResult(int affected, int batches, Duration elapsed) {}
 }
@@ -12,44 +12,86 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.LocalDate;
 import java.time.LocalTime;
-
+import java.util.List;
+
+/**
+ * Seeds a few users, dogs and bookings for local development.
+ * <p>
+ * Only active with the "dev" profile. Passwords are stored pre-hashed (BCrypt, strength 10)
+ * so startup does no hashing, and all rows are written in one transaction with batched inserts.
+ * <p>
+ * Pass {@code --scale=N} to also generate N owners with dogs and booking history for profiling,
+ * see {@link ScaledDevDataGenerator}.
+ */
 @Component
+@Profile("dev")
 public class DevDataInitializer implements ApplicationRunner {
 
     private static final Logger LOG = LoggerFactory.getLogger(DevDataInitializer.class);
 
-    private final PasswordEncoder passwordEncoder;
+    // DUMMYPASSWORDS admin123, staff123, ownerone123 and ownertwo123
+    private static final String ADMIN_PASSWORD = "{bcrypt}$2a$10$QtqT4LsDTONF0nRfSEGutOMH6bCPyMApxzV4/X2BFGIfnqH87Lv/W";
+    private static final String STAFF_PASSWORD = "{bcrypt}$2a$10$N9ofhNQxhpeGmhZEOnJgbOp.uMHk4lqmaQNYxqie0P6eoTrkTYT0O";
+    static final String OWNER_ONE_PASSWORD = "{bcrypt}$2a$10$zkyia3b3TR3BmNVSGk1rBecfd8RgehTRY7zlnB6eHGzvoG4aodq0y";
+    private static final String OWNER_TWO_PASSWORD = "{bcrypt}$2a$10$KPlSFvi0CzLKIdpm8xqO8OIGdNPXqNh437D98mYzySTBXTsgIeEIW";
+    private static final String ADMIN_EMAIL = "admin@doggydaycare.com";
+
     private final UserRepository userRepository;
     private final DogRepository dogRepository;
     private final BookingRepository bookingRepository;
+    private final ScaledDevDataGenerator scaledDataGenerator;
+    private final TransactionTemplate transaction;
 
     public DevDataInitializer(
-        PasswordEncoder passwordEncoder,
         UserRepository userRepository,
         DogRepository dogRepository,
-        BookingRepository bookingRepository) {
-        this.passwordEncoder = passwordEncoder;
+        BookingRepository bookingRepository,
+        ScaledDevDataGenerator scaledDataGenerator,
+        PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.dogRepository = dogRepository;
         this.bookingRepository = bookingRepository;
-
+        this.scaledDataGenerator = scaledDataGenerator;
+        this.transaction = new TransactionTemplate(transactionManager);
     }
 
     @Override
     public void run(ApplicationArguments args) {
         boolean forceInit = args.containsOption("force");
+        transaction.executeWithoutResult(status -> seed(forceInit));
+
+        // Outside the seed transaction: the generator commits on its own connections
+        if (args.containsOption("scale")) {
+            scaledDataGenerator.generate(scale(args));
+        }
+    }
+
+    private static int scale(ApplicationArguments args) {
+        List<String> values = args.getOptionValues("scale");
+        String value = values.isEmpty() ? "" : values.getFirst();
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--scale must be a number of owners, was: " + value, e);
+        }
+    }
+
+    private void seed(boolean forceInit) {
 
-        if (forceInit || userRepository.count() == 0) {
+        // Single index lookup instead of counting the users table
+        if (forceInit || !userRepository.existsByEmail(ADMIN_EMAIL)) {
             LOG.info("Initializing dev data...");
 
             // Create Admin user with DUMMYPASSWORD
             var admin = UserEntity.builder()
-                .email("admin@doggydaycare.com")
-                .password(passwordEncoder.encode("admin123"))
+                .email(ADMIN_EMAIL)
+                .password(ADMIN_PASSWORD)
                 .firstName("Admin")
                 .lastName("User")
                 .mobileNumber("+46701234567")
@@ -62,7 +104,7 @@ public class DevDataInitializer implements ApplicationRunner {
             // Create a Staff user with DUMMYPASSWORD
             var staff = UserEntity.builder()
                 .email("staff@doggydaycare.com")
-                .password(passwordEncoder.encode("staff123"))
+                .password(STAFF_PASSWORD)
                 .firstName("Staff")
                 .lastName("Member")
                 .mobileNumber("+46702345678")
@@ -75,7 +117,7 @@ public class DevDataInitializer implements ApplicationRunner {
             // Create Owners one and two with DUMMYPASSWORDS
             var ownerOne = UserEntity.builder()
                 .email("ownerone@doggydaycare.com")
-                .password(passwordEncoder.encode("ownerone123"))
+                .password(OWNER_ONE_PASSWORD)
                 .firstName("Dog")
                 .lastName("Owner")
                 .mobileNumber("+46703456789")
@@ -87,7 +129,7 @@ public class DevDataInitializer implements ApplicationRunner {
 
             var ownerTwo = UserEntity.builder()
                 .email("ownertwo@doggydaycare.com")
-                .password(passwordEncoder.encode("ownertwo123"))
+                .password(OWNER_TWO_PASSWORD)
                 .firstName("Doggy")
                 .lastName("OwnerTwo")
                 .mobileNumber("+46703451984")
@@ -98,10 +140,7 @@ public class DevDataInitializer implements ApplicationRunner {
                 .build();
 
 
-            userRepository.save(admin);
-            userRepository.save(staff);
-            userRepository.save(ownerOne);
-            userRepository.save(ownerTwo);
+            var users = userRepository.saveAll(List.of(admin, staff, ownerOne, ownerTwo));
 
             // Create Dogs for owners
 
@@ -132,9 +171,7 @@ public class DevDataInitializer implements ApplicationRunner {
                 .deleted(false)
                 .build();
 
-            dogRepository.save(bonnie);
-            dogRepository.save(peggy);
-            dogRepository.save(gunvald);
+            var dogs = dogRepository.saveAll(List.of(bonnie, peggy, gunvald));
 
             // Create Bookings
 
@@ -173,17 +210,15 @@ public class DevDataInitializer implements ApplicationRunner {
                 .deleted(false)
                 .build();
 
-            bookingRepository.save(todayBookingBonnie);
-            bookingRepository.save(pastBookingPeggy);
-            bookingRepository.save(cancelledBookingGunvald);
+            var bookings = bookingRepository.saveAll(List.of(todayBookingBonnie, pastBookingPeggy, cancelledBookingGunvald));
 
             LOG.info("  OwnerOne - email: ownerone@doggydaycare.com, dummyPassword: ownerone123");
             LOG.info("  OwnerTwo - email: ownertwo@doggydaycare.com, dummyPassword: ownertwo123");
 
             LOG.info("Dev data summary:");
-            LOG.info("  Users: {}", userRepository.count());
-            LOG.info("  Dogs: {}", dogRepository.count());
-            LOG.info("  Bookings: {}", bookingRepository.count());
+            LOG.info("  Users: {}", users.size());
+            LOG.info("  Dogs: {}", dogs.size());
+            LOG.info("  Bookings: {}", bookings.size());
 
         } else {
             LOG.info("Dev data already present. Skipping initialization. Use --force to reinitialize.");
@@ -0,0 +1,307 @@
+package com.doggydaycare.backend.config;
+
+import com.doggydaycare.backend.analytics.BookingAnalyticsService;
+import com.doggydaycare.backend.booking.BookingStatus;
+import com.doggydaycare.backend.user.Role;
+import org.hibernate.id.uuid.UuidVersion7Strategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates production-sized fixture data for profiling, see {@code --scale=N} on {@link DevDataInitializer}.
+ * <p>
+ * N owners get two dogs each and every dog five past bookings spread over three years,
+ * so 13 rows per owner; the backend-loadtest traffic profiles seed their history with
+ * more bookings per dog through {@link #generate(int, int)}. Owners are split into partitions that fork-join workers insert
+ * in parallel, each on its own connection and transaction with JDBC batches (MySQL
+ * rewrites them into multi-row inserts with rewriteBatchedStatements=true). A partition
+ * holds an owner's dogs and bookings too, so partitions never wait on each other.
+ * Partitions commit independently, so if one fails, every generated row is deleted again
+ * before the error is rethrown; a run that finds an incomplete earlier run (say, the process
+ * was killed) does the same and then generates from scratch. The summary logs the measured
+ * insert rate in rows per second.
+ * <p>
+ * All generated bookings are in the past, which leaves today's capacity, the rosters
+ * and the caches untouched; only the analytics rollups are rebuilt afterwards.
+ */
+@Component
+@Profile("dev")
+public class ScaledDevDataGenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScaledDevDataGenerator.class);
+
+    private static final int OWNERS_PER_PARTITION = 2_000;
+    private static final int BATCH_ROWS = 1_000;
+    public static final int DOGS_PER_OWNER = 2;
+    public static final int HISTORY_DAYS = 3 * 365;
+    private static final int BOOKINGS_PER_DOG = 5;
+    private static final String[] BREEDS = {"Labrador", "Beagle", "Poodle", "Border Collie", "Pug", "Whippet", "Mixed"};
+
+    private static final String GENERATED_EMAILS = "owner-%@scale.doggydaycare.com";
+    private static final String GENERATED_OWNER_IDS = "SELECT id FROM users WHERE email LIKE ?";
+
+    private static final String INSERT_USER = """
+        INSERT INTO users (id, email, password, first_name, last_name, role, enabled, deleted, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, TRUE, FALSE, ?, ?)""";
+    private static final String INSERT_DOG = """
+        INSERT INTO dogs (id, user_id, name, age, breed, deleted, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, FALSE, ?, ?)""";
+    private static final String INSERT_BOOKING = """
+        INSERT INTO bookings (id, dog_id, booked_by_id, date, expected_check_in_time, expected_check_out_time,
+                              actual_check_in_time, actual_check_out_time, status, deleted, live, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE, TRUE, ?, ?)""";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final BookingAnalyticsService analyticsService;
+    private final int parallelism;
+
+    public ScaledDevDataGenerator(
+        DataSource dataSource,
+        JdbcTemplate jdbcTemplate,
+        BookingAnalyticsService analyticsService,
+        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize
+    ) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.analyticsService = analyticsService;
+        // One connection per worker; leave half the pool for the rest of the application
+        this.parallelism = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), poolSize / 2));
+    }
+
+    public static String emailFor(int owner) {
+        return "owner-" + owner + "@scale.doggydaycare.com";
+    }
+
+    /**
+     * Inserts {@code owners} owners with their dogs and booking history,
+     * unless a previous run already did.
+     */
+    public void generate(int owners) {
+        generate(owners, BOOKINGS_PER_DOG);
+    }
+
+    /**
+     * Same as {@link #generate(int)} with {@code bookingsPerDog} past bookings per dog,
+     * evenly spaced over the {@value #HISTORY_DAYS} days before today.
+     */
+    public void generate(int owners, int bookingsPerDog) {
+        if (owners <= 0) {
+            throw new IllegalArgumentException("scale must be positive");
+        }
+        if (bookingsPerDog < 1 || bookingsPerDog > HISTORY_DAYS) {
+            throw new IllegalArgumentException("bookingsPerDog must be between 1 and " + HISTORY_DAYS);
+        }
+        long existing = countGeneratedOwners();
+        if (existing == owners) {
+            LOG.info("Scaled dev data already present. Skipping generation.");
+            return;
+        }
+        if (existing > 0) {
+            LOG.warn("Found {} scaled owners from an earlier run instead of {}; removing them first", existing, owners);
+            deleteGenerated();
+        }
+
+        LOG.info("Generating scaled dev data for {} owners on {} workers...", owners, parallelism);
+        long start = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            pool.invoke(new Partition(0, owners, bookingsPerDog, today, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            // Partitions that finished have committed; leave nothing half-generated behind
+            LOG.error("Scaled dev data generation failed; removing the rows generated so far");
+            deleteGenerated();
+            throw e;
+        }
+        long inserted = System.nanoTime();
+        long rows = (long) owners * (1 + DOGS_PER_OWNER * (1L + bookingsPerDog));
+
+        // The inserts bypass BookingStatsRecorder, so rebuild the rollups for the generated history
+        analyticsService.reconcile(today.minusDays(HISTORY_DAYS), today.minusDays(1));
+
+        LOG.info("Scaled dev data summary:");
+        LOG.info("  Users: {}, dogs: {}, bookings: {}",
+            owners, (long) owners * DOGS_PER_OWNER, (long) owners * DOGS_PER_OWNER * bookingsPerDog);
+        LOG.info("  Inserted {} rows in {} ms ({} rows/s), rollups rebuilt in {} ms",
+            rows, (inserted - start) / 1_000_000, rows * 1_000_000_000 / Math.max(1, inserted - start),
+            (System.nanoTime() - inserted) / 1_000_000);
+    }
+
+    private long countGeneratedOwners() {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM users WHERE email LIKE ?", Long.class, GENERATED_EMAILS);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Deletes the generated owners with their dogs, bookings and owner rollups, children first.
+     * Daily rollups are left to the reconciliation that follows generation.
+     */
+    private void deleteGenerated() {
+        jdbcTemplate.update("DELETE FROM bookings WHERE booked_by_id IN (" + GENERATED_OWNER_IDS + ")", GENERATED_EMAILS);
+        jdbcTemplate.update("DELETE FROM dogs WHERE user_id IN (" + GENERATED_OWNER_IDS + ")", GENERATED_EMAILS);
+        jdbcTemplate.update("DELETE FROM booking_owner_stats WHERE owner_id IN (" + GENERATED_OWNER_IDS + ")",
+            GENERATED_EMAILS);
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", GENERATED_EMAILS);
+    }
+
+    /* =======================
+       Partitions
+       ======================= */
+
+    private final class Partition extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final int bookingsPerDog;
+        private final LocalDate today;
+        private final LocalDateTime now;
+
+        private Partition(int from, int to, int bookingsPerDog, LocalDate today, LocalDateTime now) {
+            this.from = from;
+            this.to = to;
+            this.bookingsPerDog = bookingsPerDog;
+            this.today = today;
+            this.now = now;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > OWNERS_PER_PARTITION) {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                    new Partition(from, middle, bookingsPerDog, today, now),
+                    new Partition(middle, to, bookingsPerDog, today, now)
+                );
+            } else {
+                insert();
+            }
+        }
+
+        private void insert() {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(false);
+                try (PreparedStatement users = connection.prepareStatement(INSERT_USER);
+                     PreparedStatement dogs = connection.prepareStatement(INSERT_DOG);
+                     PreparedStatement bookings = connection.prepareStatement(INSERT_BOOKING)) {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    int pending = 0;
+                    for (int owner = from; owner < to; owner++) {
+                        pending += addOwner(owner, users, dogs, bookings, random);
+                        if (pending >= BATCH_ROWS) {
+                            // Parents first so the foreign keys are satisfied
+                            users.executeBatch();
+                            dogs.executeBatch();
+                            bookings.executeBatch();
+                            pending = 0;
+                        }
+                    }
+                    users.executeBatch();
+                    dogs.executeBatch();
+                    bookings.executeBatch();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                throw new IllegalStateException("Could not generate owners " + from + " to " + to, e);
+            }
+        }
+
+        private int addOwner(
+            int owner, PreparedStatement users, PreparedStatement dogs, PreparedStatement bookings, ThreadLocalRandom random
+        ) throws SQLException {
+            byte[] ownerId = newId();
+            users.setBytes(1, ownerId);
+            users.setString(2, emailFor(owner));
+            users.setString(3, DevDataInitializer.OWNER_ONE_PASSWORD);
+            users.setString(4, "Owner");
+            users.setString(5, "No. " + owner);
+            users.setString(6, Role.OWNER.name());
+            users.setObject(7, now);
+            users.setObject(8, now);
+            users.addBatch();
+            int rows = 1;
+
+            for (int d = 0; d < DOGS_PER_OWNER; d++) {
+                int dog = owner * DOGS_PER_OWNER + d;
+                byte[] dogId = newId();
+                dogs.setBytes(1, dogId);
+                dogs.setBytes(2, ownerId);
+                dogs.setString(3, "Dog " + dog);
+                dogs.setInt(4, random.nextInt(16));
+                dogs.setString(5, BREEDS[random.nextInt(BREEDS.length)]);
+                dogs.setObject(6, now);
+                dogs.setObject(7, now);
+                dogs.addBatch();
+                rows++;
+
+                // Evenly spaced days from a per-dog start, so a dog never has two bookings on one day
+                int first = random.nextInt(HISTORY_DAYS);
+                for (int b = 0; b < bookingsPerDog; b++) {
+                    LocalDate date = today.minusDays(1 + (first + b * (HISTORY_DAYS / bookingsPerDog)) % HISTORY_DAYS);
+                    addBooking(bookings, dogId, ownerId, date, random);
+                    rows++;
+                }
+            }
+            return rows;
+        }
+
+        private void addBooking(
+            PreparedStatement bookings, byte[] dogId, byte[] ownerId, LocalDate date, ThreadLocalRandom random
+        ) throws SQLException {
+            LocalTime checkIn = LocalTime.of(7, 0).plusMinutes(30L * random.nextInt(5));
+            LocalTime checkOut = LocalTime.of(15, 0).plusMinutes(30L * random.nextInt(6));
+            int roll = random.nextInt(100);
+            BookingStatus status = roll < 6 ? BookingStatus.NO_SHOW
+                : roll < 10 ? BookingStatus.CANCELLED
+                : BookingStatus.CHECKED_OUT;
+            boolean attended = status == BookingStatus.CHECKED_OUT;
+
+            bookings.setBytes(1, newId());
+            bookings.setBytes(2, dogId);
+            bookings.setBytes(3, ownerId);
+            bookings.setObject(4, date);
+            bookings.setObject(5, checkIn);
+            bookings.setObject(6, checkOut);
+            bookings.setObject(7, attended ? checkIn.plusMinutes(random.nextInt(31) - 10) : null);
+            bookings.setObject(8, attended ? checkOut.plusMinutes(random.nextInt(31) - 15) : null);
+            bookings.setString(9, status.name());
+            bookings.setObject(10, now);
+            bookings.setObject(11, now);
+            bookings.addBatch();
+        }
+    }
+
+    /**
+     * The same time-ordered UUIDv7 the entities get from Hibernate, as BINARY(16).
+     */
+    private static byte[] newId() {
+        return toBytes(UuidVersion7Strategy.INSTANCE.generateUuid(null));
+    }
+
+    /**
+     * BINARY(16) layout, most significant bits first, as Hibernate writes it.
+     */
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+}
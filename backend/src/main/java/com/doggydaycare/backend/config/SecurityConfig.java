@@ -1,42 +1,112 @@
 package com.doggydaycare.backend.config;
 
+import com.doggydaycare.backend.auth.JwtAuthenticationFilter;
+import com.doggydaycare.backend.auth.JwtService;
+import com.doggydaycare.backend.auth.PasswordHashingProperties;
+import com.doggydaycare.backend.booking.BookingController;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    /**
+     * Hashes are stored as {id}hash. New hashes use the configured encoding id;
+     * older hashes without a prefix are plain BCrypt and are still accepted.
+     * Hashes that are not in the current format or cost are upgraded on the next login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(properties.bcryptStrength());
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", bcrypt,
+                "pbkdf2@SpringSecurity_v5_8", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()
+        );
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(properties.encodingId(), encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
+    }
+
+    /**
+     * Used by the login endpoint only. Other requests are authenticated from
+     * their JWT and never load the user or check a password.
+     */
+    @Bean
+    public AuthenticationManager authenticationManager(
+            UserDetailsService userDetailsService,
+            UserDetailsPasswordService userDetailsPasswordService,
+            PasswordEncoder passwordEncoder
+    ) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        // Rehashes the password after a successful login when the stored hash is outdated
+        provider.setUserDetailsPasswordService(userDetailsPasswordService);
+        return new ProviderManager(provider);
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            JwtService jwtService,
+            @Value("${daycare.security.require-authentication:false}") boolean requireAuthentication
+    ) {
         http
-                // Disable CSRF protection (useful during development)
+                // Disable CSRF protection (stateless API authenticated by bearer tokens)
                 .csrf(AbstractHttpConfigurer::disable)
                 // Enable CORS with custom configuration defined below
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
-                // Authorization rules: currently allow ALL requests without authentication (ONLY UNDER DEVELOPMENT)
-                .authorizeHttpRequests(auth -> auth
-                        .anyRequest().permitAll()
+                // No HTTP session: every request carries its own access token
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(new JwtAuthenticationFilter(jwtService), UsernamePasswordAuthenticationFilter.class)
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
                 );
 
-        return http.build();    }
+        if (requireAuthentication) {
+            http.authorizeHttpRequests(auth -> auth
+                    .requestMatchers("/api/v1/auth/**", "/actuator/health", "/helloapi/**").permitAll()
+                    // Async responses (user creation, the booking event stream) are completed on a re-dispatch
+                    // that carries no token; the original request was already authorized
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                    .anyRequest().authenticated()
+            );
+        } else {
+            // Tokens are still verified when present, but every request is allowed (ONLY UNDER DEVELOPMENT)
+            http.authorizeHttpRequests(auth -> auth
+                    .anyRequest().permitAll()
+            );
+        }
+
+        return http.build();
+    }
 
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -48,6 +118,8 @@ public class SecurityConfig {
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         // Allow all headers (e.g., Authorization, Content-Type)
         configuration.setAllowedHeaders(Collections.singletonList("*"));
+        // Let the frontend read the truncation flag on capped list responses
+        configuration.setExposedHeaders(Collections.singletonList(BookingController.TRUNCATED_HEADER));
         // Allow cookies/credentials to be sent with requests (important for sessions or auth tokens)
         configuration.setAllowCredentials(true);
 
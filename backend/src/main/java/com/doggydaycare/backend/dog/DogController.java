@@ -1,6 +1,8 @@
 package com.doggydaycare.backend.dog;
 
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
@@ -35,13 +37,39 @@ public class DogController {
        ======================= */
 
     /**
-     * Returns all dogs.
+     * Returns all non-deleted dogs ordered by name.
+     * Use /page or /keyset to read them in smaller chunks.
      */
     @GetMapping
     public List<DogResponse> getAll() {
         return dogService.getAll();
     }
 
+    /**
+     * Returns one page of dogs, e.g. ?page=0&size=50&sort=name,asc.
+     * Pass count=false to skip the total count and only get hasNext.
+     */
+    @GetMapping("/page")
+    public DogPageResponse getPage(
+        @PageableDefault(size = 50, sort = "name") Pageable pageable,
+        @RequestParam(defaultValue = "true") boolean count
+    ) {
+        return dogService.getPage(pageable, count);
+    }
+
+    /**
+     * Returns one page of dogs ordered by name.
+     * Pass nextAfterName/nextAfterId from the previous page to continue.
+     */
+    @GetMapping("/keyset")
+    public DogKeysetPageResponse getKeysetPage(
+        @RequestParam(required = false) String afterName,
+        @RequestParam(required = false) UUID afterId,
+        @RequestParam(defaultValue = "50") int size
+    ) {
+        return dogService.getKeysetPage(afterName, afterId, size);
+    }
+
     /**
      * Returns a single dog by id.
      */
@@ -3,6 +3,9 @@ package com.doggydaycare.backend.dog;
 import com.doggydaycare.backend.user.UserEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UuidGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -11,7 +14,14 @@ import java.util.UUID;
 
 @EntityListeners(AuditingEntityListener.class)
 @Entity
-@Table(name = "dogs")
+@Table(
+    name = "dogs",
+    indexes = {
+        @Index(name = "idx_dog_deleted_name", columnList = "deleted, name")
+    }
+)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "dogs")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,7 +30,7 @@ import java.util.UUID;
 public class DogEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     @Setter(AccessLevel.NONE)
     private UUID id;
 
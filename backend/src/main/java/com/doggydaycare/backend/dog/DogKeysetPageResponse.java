@@ -0,0 +1,15 @@
+package com.doggydaycare.backend.dog;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of dogs ordered by (name, id).
+ * Pass nextAfterName/nextAfterId back to fetch the following page.
+ */
+public record DogKeysetPageResponse(
+    List<DogResponse> items,
+    boolean hasNext,
+    String nextAfterName,
+    UUID nextAfterId
+) {}
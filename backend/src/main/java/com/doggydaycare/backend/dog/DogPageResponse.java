@@ -0,0 +1,15 @@
+package com.doggydaycare.backend.dog;
+
+import java.util.List;
+
+/**
+ * One offset page of dogs.
+ * totalElements is null when the page was requested without a count.
+ */
+public record DogPageResponse(
+    List<DogResponse> items,
+    int page,
+    int size,
+    boolean hasNext,
+    Long totalElements
+) {}
@@ -1,6 +1,14 @@
 package com.doggydaycare.backend.dog;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
@@ -8,9 +16,63 @@ import java.util.UUID;
 
 public interface DogRepository extends JpaRepository<DogEntity, UUID> {
 
-    // Find all dogs for a specific user
+    // Find all dogs for a specific user.
+    // Cached: the result (dog ids) comes from the query cache and the dogs from the entity cache.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "dogs-by-user")
+    })
     List<DogEntity> findByUserId(UUID userId);
 
     // Find a specific dog for a specific user (safety check)
     Optional<DogEntity> findByIdAndUserId(UUID id, UUID userId);
+
+    /* =======================
+       Response projections
+       ======================= */
+
+    // The owner id is read straight from the user_id FK, so no user row is loaded.
+    String RESPONSE_SELECT = """
+        select new com.doggydaycare.backend.dog.DogResponse(
+            d.id, d.name, d.age, d.breed, d.dogInfo, d.user.id)
+        from DogEntity d
+        """;
+
+    // Every non-deleted dog; the staff views resolve dog names from this list.
+    @Query(RESPONSE_SELECT + """
+        where d.deleted = false
+        order by d.name, d.id
+        """)
+    List<DogResponse> findAllResponses();
+
+    /* =======================
+       Offset listing
+       ======================= */
+
+    @Query(
+        value = RESPONSE_SELECT + "where d.deleted = false",
+        countQuery = "select count(d) from DogEntity d where d.deleted = false"
+    )
+    Page<DogResponse> findResponsePage(Pageable pageable);
+
+    // A Slice reads one extra row to compute hasNext and never runs the count query.
+    @Query(RESPONSE_SELECT + "where d.deleted = false")
+    Slice<DogResponse> findResponseSlice(Pageable pageable);
+
+    /* =======================
+       Paginated listing (keyset on name, id)
+       ======================= */
+
+    @Query(RESPONSE_SELECT + """
+        where d.deleted = false
+        order by d.name, d.id
+        """)
+    List<DogResponse> findFirstPage(Limit limit);
+
+    @Query(RESPONSE_SELECT + """
+        where d.deleted = false
+          and (d.name > :afterName or (d.name = :afterName and d.id > :afterId))
+        order by d.name, d.id
+        """)
+    List<DogResponse> findPageAfter(String afterName, UUID afterId, Limit limit);
 }
@@ -9,4 +9,19 @@ public record DogResponse(
     String breed,
     String dogInfo,
     UUID userId
-) {}
+) {
+
+    /**
+     * Maps entity to response DTO.
+     */
+    public static DogResponse from(DogEntity dog) {
+        return new DogResponse(
+            dog.getId(),
+            dog.getName(),
+            dog.getAge(),
+            dog.getBreed(),
+            dog.getDogInfo(),
+            dog.getUser().getId()
+        );
+    }
+}
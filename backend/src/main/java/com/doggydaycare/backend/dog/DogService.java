@@ -2,18 +2,29 @@ package com.doggydaycare.backend.dog;
 
 import com.doggydaycare.backend.user.UserEntity;
 import com.doggydaycare.backend.user.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+@Timed(value = "dog.service", description = "DogService calls", histogram = true)
 @Service
 @Transactional
 public class DogService {
 
     private static final String DOG_NOT_FOUND = "Dog not found";
     private static final String USER_NOT_FOUND = "User not found";
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("name", "age", "breed", "createdAt");
 
     private final DogRepository dogRepository;
     private final UserRepository userRepository;
@@ -44,7 +55,7 @@ public class DogService {
             .build();
 
         DogEntity saved = dogRepository.save(dog);
-        return toResponse(saved);
+        return DogResponse.from(saved);
     }
 
     /* =======================
@@ -56,22 +67,69 @@ public class DogService {
         DogEntity dog = dogRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException(DOG_NOT_FOUND));
 
-        return toResponse(dog);
+        return DogResponse.from(dog);
     }
 
+    /**
+     * Returns all non-deleted dogs ordered by name.
+     * Use {@link #getPage} or {@link #getKeysetPage} to read them in smaller chunks.
+     */
     @Transactional(readOnly = true)
     public List<DogResponse> getAll() {
-        return dogRepository.findAll().stream()
-            .filter(dog -> !dog.isDeleted())
-            .map(DogService::toResponse)
-            .toList();
+        return dogRepository.findAllResponses();
+    }
+
+    /**
+     * Returns one offset page of non-deleted dogs.
+     * With withTotal=false no count query is run and only hasNext is reported.
+     */
+    @Transactional(readOnly = true)
+    public DogPageResponse getPage(Pageable pageable, boolean withTotal) {
+        Pageable request = stablePageRequest(pageable);
+
+        if (withTotal) {
+            Page<DogResponse> page = dogRepository.findResponsePage(request);
+            return new DogPageResponse(
+                page.getContent(), page.getNumber(), page.getSize(), page.hasNext(), page.getTotalElements()
+            );
+        }
+        Slice<DogResponse> slice = dogRepository.findResponseSlice(request);
+        return new DogPageResponse(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), null);
+    }
+
+    /**
+     * Returns one page of non-deleted dogs ordered by (name, id).
+     * The cursor is the (name, id) of the last dog on the previous page;
+     * omit both values to start from the beginning.
+     */
+    @Transactional(readOnly = true)
+    public DogKeysetPageResponse getKeysetPage(String afterName, UUID afterId, int size) {
+        if ((afterName == null) != (afterId == null)) {
+            throw new IllegalArgumentException("afterName and afterId must be provided together");
+        }
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        // Fetch one extra row to know whether another page exists
+        Limit limit = Limit.of(pageSize + 1);
+        List<DogResponse> rows = afterName == null
+            ? dogRepository.findFirstPage(limit)
+            : dogRepository.findPageAfter(afterName, afterId, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<DogResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+        if (!hasNext) {
+            return new DogKeysetPageResponse(items, false, null, null);
+        }
+        DogResponse last = items.getLast();
+        return new DogKeysetPageResponse(items, true, last.name(), last.id());
     }
 
     @Transactional(readOnly = true)
     public List<DogResponse> getByUserId(UUID userId) {
         return dogRepository.findByUserId(userId).stream()
             .filter(dog -> !dog.isDeleted())
-            .map(DogService::toResponse)
+            .map(DogResponse::from)
             .toList();
     }
 
@@ -83,9 +141,9 @@ public class DogService {
         DogEntity dog = dogRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException(DOG_NOT_FOUND));
 
-        applyUpdates(dog, request);
+        request.applyTo(dog);
 
-        return toResponse(dog);
+        return DogResponse.from(dog);
     }
 
     /* =======================
@@ -103,29 +161,21 @@ public class DogService {
        Mapping / pure helpers
        ======================= */
 
-    private static void applyUpdates(DogEntity dog, DogUpdateRequest request) {
-        if (request.name() != null) {
-            dog.setName(request.name());
-        }
-        if (request.age() != null) {
-            dog.setAge(request.age());
+    /**
+     * Clamps the page size, rejects unknown sort properties and appends id
+     * as a tie-breaker so rows with equal sort keys never shift between pages.
+     */
+    private static Pageable stablePageRequest(Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Cannot sort dogs by " + order.getProperty());
+            }
         }
-        if (request.breed() != null) {
-            dog.setBreed(request.breed());
-        }
-        if (request.dogInfo() != null) {
-            dog.setDogInfo(request.dogInfo());
-        }
-    }
-
-    private static DogResponse toResponse(DogEntity dog) {
-        return new DogResponse(
-            dog.getId(),
-            dog.getName(),
-            dog.getAge(),
-            dog.getBreed(),
-            dog.getDogInfo(),
-            dog.getUser().getId()
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : Sort.by("name");
+        return PageRequest.of(
+            pageable.getPageNumber(),
+            Math.clamp(pageable.getPageSize(), 1, MAX_PAGE_SIZE),
+            sort.and(Sort.by("id"))
         );
     }
 }
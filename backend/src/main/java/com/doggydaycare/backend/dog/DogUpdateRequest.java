@@ -10,4 +10,23 @@ public record DogUpdateRequest(
     Integer age,
     String breed,
     String dogInfo
-) {}
+) {
+
+    /**
+     * Copies the non-null fields onto the dog.
+     */
+    public void applyTo(DogEntity dog) {
+        if (name != null) {
+            dog.setName(name);
+        }
+        if (age != null) {
+            dog.setAge(age);
+        }
+        if (breed != null) {
+            dog.setBreed(breed);
+        }
+        if (dogInfo != null) {
+            dog.setDogInfo(dogInfo);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.doggydaycare.backend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.NonNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request ran (http.server.requests.statements),
+ * tagged like http.server.requests, so an N+1 regression shows up as a shifted histogram.
+ * <p>
+ * Runs ahead of security so principal lookups are counted too. Work done after the
+ * request thread is released, e.g. a streamed export, is not included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+class RequestStatementMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    RequestStatementMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        StatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = StatementCounter.stop();
+            DistributionSummary.builder("http.server.requests.statements")
+                .description("SQL statements prepared while handling a request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", RequestTags.uri(request))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.doggydaycare.backend.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+final class RequestTags {
+
+    private RequestTags() {
+    }
+
+    /**
+     * The matched route template, e.g. /api/v1/bookings/date/{date}, so ids
+     * and dates do not each create their own time series.
+     */
+    static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
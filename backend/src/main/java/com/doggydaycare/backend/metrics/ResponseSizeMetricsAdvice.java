@@ -0,0 +1,65 @@
+package com.doggydaycare.backend.metrics;
+
+import com.doggydaycare.backend.booking.BookingPageResponse;
+import com.doggydaycare.backend.dog.DogKeysetPageResponse;
+import com.doggydaycare.backend.dog.DogPageResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Collection;
+
+/**
+ * Records the number of items returned by list and page endpoints
+ * (http.server.response.items), tagged by route.
+ */
+@ControllerAdvice
+class ResponseSizeMetricsAdvice implements ResponseBodyAdvice<Object> {
+
+    private final MeterRegistry meterRegistry;
+
+    ResponseSizeMetricsAdvice(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public @Nullable Object beforeBodyWrite(
+        @Nullable Object body,
+        MethodParameter returnType,
+        MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        ServerHttpRequest request,
+        ServerHttpResponse response
+    ) {
+        int items = switch (body) {
+            case Collection<?> collection -> collection.size();
+            case BookingPageResponse page -> page.items().size();
+            case DogPageResponse page -> page.items().size();
+            case DogKeysetPageResponse page -> page.items().size();
+            case null, default -> -1;
+        };
+        if (items >= 0 && request instanceof ServletServerHttpRequest servletRequest) {
+            DistributionSummary.builder("http.server.response.items")
+                .description("Items returned by a list or page endpoint")
+                .baseUnit("items")
+                .tag("uri", RequestTags.uri(servletRequest.getServletRequest()))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(items);
+        }
+        return body;
+    }
+}
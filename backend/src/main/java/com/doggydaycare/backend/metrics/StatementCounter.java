@@ -0,0 +1,36 @@
+package com.doggydaycare.backend.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread
+ * while a count is open. Registered as Hibernate's statement inspector.
+ * <p>
+ * Only statements prepared through Hibernate are seen; a JDBC batch counts once.
+ */
+class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * Ends the count opened by {@link #start()} and returns it.
+     */
+    static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
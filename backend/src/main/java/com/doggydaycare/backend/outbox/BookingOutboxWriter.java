@@ -0,0 +1,36 @@
+package com.doggydaycare.backend.outbox;
+
+import com.doggydaycare.backend.booking.BookingEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+
+/**
+ * Writes every {@link BookingEvent} to the outbox inside the transaction that
+ * changed the booking, so the event is stored if and only if the change commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingOutboxWriter {
+
+    static final String AGGREGATE_TYPE = "booking";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JsonMapper jsonMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onBookingChanged(BookingEvent event) {
+        outboxEventRepository.save(OutboxEventEntity.builder()
+            .aggregateType(AGGREGATE_TYPE)
+            .aggregateId(event.booking().id())
+            .eventType(event.type().name())
+            .payload(jsonMapper.writeValueAsString(event))
+            .createdAt(LocalDateTime.now())
+            .attempts(0)
+            .build());
+    }
+}
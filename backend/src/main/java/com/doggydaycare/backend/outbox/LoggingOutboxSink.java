@@ -0,0 +1,18 @@
+package com.doggydaycare.backend.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Used when the application defines no {@link OutboxSink}: logs each event and drops it.
+ */
+class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoggingOutboxSink.class);
+
+    @Override
+    public void send(OutboxMessage message) {
+        LOG.debug("Outbox {} {} {}: {}",
+            message.aggregateType(), message.aggregateId(), message.eventType(), message.payload());
+    }
+}
@@ -0,0 +1,8 @@
+package com.doggydaycare.backend.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * Events still waiting for dispatch and when the oldest of them was written.
+ */
+public record OutboxBacklog(long pending, LocalDateTime oldestCreatedAt) {}
@@ -0,0 +1,210 @@
+package com.doggydaycare.backend.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox into the {@link OutboxSink} in batches.
+ * <p>
+ * Each batch is claimed with SELECT ... FOR UPDATE SKIP LOCKED, sent, and marked
+ * dispatched in one transaction, so several backend instances can poll the same
+ * table without sending an event twice. Events are sent oldest first; a failed
+ * send ends the batch so later events for the same booking do not overtake it.
+ * The failed event is retried after an exponential backoff ({@code initialBackoff},
+ * doubled per failure up to {@code maxBackoff}), and later events for the same booking
+ * wait behind it. An event that fails {@code maxAttempts} times is left in the table and skipped.
+ * Dispatched events are deleted nightly once they are older than the retention period.
+ * <p>
+ * Metrics: outbox.events.dispatched and outbox.events.failed (throughput),
+ * outbox.delivery.lag (time from write to dispatch), outbox.pending and
+ * outbox.lag (age of the oldest pending event, refreshed every poll).
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+    static final int PURGE_BATCH_SIZE = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter dispatched;
+    private final Counter failed;
+    private final Timer deliveryLag;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+
+    /**
+     * Uses the application's {@link OutboxSink} bean, or logs events if there is none.
+     */
+    public OutboxDispatcher(
+        OutboxEventRepository outboxEventRepository,
+        ObjectProvider<OutboxSink> sinks,
+        OutboxProperties properties,
+        TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sinks.getIfUnique(LoggingOutboxSink::new);
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+
+        this.dispatched = Counter.builder("outbox.events.dispatched")
+            .description("Outbox events handed to the sink")
+            .register(meterRegistry);
+        this.failed = Counter.builder("outbox.events.failed")
+            .description("Outbox deliveries that failed and will be retried")
+            .register(meterRegistry);
+        this.deliveryLag = Timer.builder("outbox.delivery.lag")
+            .description("Time from writing an outbox event to dispatching it")
+            .register(meterRegistry);
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+            .description("Outbox events waiting for dispatch")
+            .register(meterRegistry);
+        TimeGauge.builder("outbox.lag", oldestPendingAgeMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .description("Age of the oldest outbox event waiting for dispatch")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(
+        initialDelayString = "${daycare.outbox.poll-interval:1s}",
+        fixedDelayString = "${daycare.outbox.poll-interval:1s}"
+    )
+    void poll() {
+        if (properties.pollerEnabled()) {
+            dispatchPending();
+        }
+    }
+
+    /**
+     * Dispatches batches until the outbox is drained or a send fails.
+     */
+    public void dispatchPending() {
+        BatchResult batch;
+        do {
+            batch = transactionTemplate.execute(status -> dispatchBatch());
+        } while (batch.claimed() == properties.batchSize() && !batch.interrupted());
+
+        refreshBacklog();
+    }
+
+    /**
+     * Deletes dispatched events older than the retention period. Runs every night at 00:30.
+     */
+    @Scheduled(cron = "0 30 0 * * *")
+    public void purgeDispatched() {
+        int purged = purgeDispatchedBefore(LocalDateTime.now().minus(properties.retention()));
+        LOG.info("Purged {} dispatched outbox events older than {}", purged, properties.retention());
+    }
+
+    /**
+     * Deletes events dispatched before the cutoff in batches of {@value #PURGE_BATCH_SIZE},
+     * each in its own transaction so lock time stays bounded.
+     */
+    int purgeDispatchedBefore(LocalDateTime cutoff) {
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<UUID> ids = outboxEventRepository.findDispatchedIdsBefore(cutoff, Limit.of(PURGE_BATCH_SIZE));
+                outboxEventRepository.deleteAllByIdInBatch(ids);
+                return ids.size();
+            });
+            purged += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        return purged;
+    }
+
+    private BatchResult dispatchBatch() {
+        List<OutboxEventEntity> claimed = outboxEventRepository.claimPending(
+            properties.maxAttempts(), LocalDateTime.now(), Limit.of(properties.batchSize())
+        );
+
+        for (OutboxEventEntity event : claimed) {
+            try {
+                sink.send(toMessage(event));
+            } catch (RuntimeException e) {
+                if (recordFailure(event, e)) {
+                    continue;
+                }
+                return new BatchResult(claimed.size(), true);
+            }
+            LocalDateTime now = LocalDateTime.now();
+            event.setDispatchedAt(now);
+            dispatched.increment();
+            deliveryLag.record(Duration.between(event.getCreatedAt(), now));
+        }
+        return new BatchResult(claimed.size(), false);
+    }
+
+    /**
+     * @return true if the event has used up its attempts and dispatch can move past it
+     */
+    private boolean recordFailure(OutboxEventEntity event, RuntimeException e) {
+        failed.increment();
+        event.setAttempts(event.getAttempts() + 1);
+        String error = String.valueOf(e);
+        event.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+        if (event.getAttempts() >= properties.maxAttempts()) {
+            LOG.error("Giving up on outbox event {} ({} {}) after {} attempts",
+                event.getId(), event.getEventType(), event.getAggregateId(), event.getAttempts(), e);
+            return true;
+        }
+        Duration backoff = backoff(event.getAttempts());
+        event.setNextAttemptAt(LocalDateTime.now().plus(backoff));
+        LOG.warn("Outbox event {} failed (attempt {}), will retry in {}: {}",
+            event.getId(), event.getAttempts(), backoff, error);
+        return false;
+    }
+
+    /**
+     * initialBackoff doubled for every failure after the first, capped at maxBackoff.
+     */
+    Duration backoff(int attempts) {
+        // Past 2^30 the cap has long been reached; the bound keeps the multiplication from overflowing
+        Duration delay = properties.initialBackoff().multipliedBy(1L << Math.min(attempts - 1, 30));
+        return delay.compareTo(properties.maxBackoff()) > 0 ? properties.maxBackoff() : delay;
+    }
+
+    private void refreshBacklog() {
+        OutboxBacklog backlog = outboxEventRepository.findBacklog(properties.maxAttempts());
+        pending.set(backlog.pending());
+        oldestPendingAgeMillis.set(backlog.oldestCreatedAt() == null
+            ? 0
+            : Math.max(0, Duration.between(backlog.oldestCreatedAt(), LocalDateTime.now()).toMillis()));
+    }
+
+    private static OutboxMessage toMessage(OutboxEventEntity event) {
+        return new OutboxMessage(
+            event.getId(),
+            event.getAggregateType(),
+            event.getAggregateId(),
+            event.getEventType(),
+            event.getPayload(),
+            event.getCreatedAt()
+        );
+    }
+
+    private record BatchResult(int claimed, boolean interrupted) {}
+}
@@ -0,0 +1,61 @@
+package com.doggydaycare.backend.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An event waiting to be handed to the {@link OutboxSink}, or the record of one that was.
+ */
+@Entity
+@Table(
+    name = "outbox_events",
+    indexes = {
+        @Index(name = "idx_outbox_pending", columnList = "dispatched_at, created_at"),
+        @Index(name = "idx_outbox_aggregate", columnList = "aggregate_id, created_at")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEventEntity {
+
+    @Id
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
+    @Setter(AccessLevel.NONE)
+    private UUID id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    // Not claimed again before this time after a failed delivery; null until the first failure
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+}
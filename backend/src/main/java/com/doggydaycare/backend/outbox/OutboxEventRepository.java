@@ -0,0 +1,48 @@
+package com.doggydaycare.backend.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, UUID> {
+
+    String PENDING = "o.dispatchedAt is null and o.attempts < :maxAttempts";
+
+    /**
+     * Locks the oldest pending events that are due. A lock timeout of -2 is Hibernate's SKIP LOCKED,
+     * so concurrent dispatchers (e.g. other backend instances) claim disjoint batches.
+     * Events behind an earlier event for the same aggregate that is backing off are left
+     * alone, so a retry never lets a later event for that booking overtake it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from OutboxEventEntity o where " + PENDING + """
+         and (o.nextAttemptAt is null or o.nextAttemptAt <= :now)
+         and not exists (
+            select 1 from OutboxEventEntity earlier
+            where earlier.aggregateId = o.aggregateId
+              and earlier.dispatchedAt is null
+              and earlier.attempts < :maxAttempts
+              and earlier.nextAttemptAt > :now
+              and (earlier.createdAt < o.createdAt or (earlier.createdAt = o.createdAt and earlier.id < o.id)))
+        order by o.createdAt, o.id
+        """)
+    List<OutboxEventEntity> claimPending(int maxAttempts, LocalDateTime now, Limit limit);
+
+    @Query("select new com.doggydaycare.backend.outbox.OutboxBacklog(count(o), min(o.createdAt))"
+        + " from OutboxEventEntity o where " + PENDING)
+    OutboxBacklog findBacklog(int maxAttempts);
+
+    @Query("select o.id from OutboxEventEntity o where o.dispatchedAt < :cutoff")
+    List<UUID> findDispatchedIdsBefore(LocalDateTime cutoff, Limit limit);
+
+    List<OutboxEventEntity> findByAggregateIdOrderByCreatedAt(UUID aggregateId);
+}
@@ -0,0 +1,17 @@
+package com.doggydaycare.backend.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * What an {@link OutboxSink} receives. The id is stable across redeliveries,
+ * so consumers can use it to drop duplicates.
+ */
+public record OutboxMessage(
+    UUID id,
+    String aggregateType,
+    UUID aggregateId,
+    String eventType,
+    String payload,
+    LocalDateTime createdAt
+) {}
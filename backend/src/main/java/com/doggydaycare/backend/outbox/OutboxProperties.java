@@ -0,0 +1,26 @@
+package com.doggydaycare.backend.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Outbox dispatch settings. The polling interval is daycare.outbox.poll-interval.
+ *
+ * @param batchSize      events claimed and dispatched per transaction
+ * @param maxAttempts    failed deliveries after which an event is no longer retried
+ * @param initialBackoff delay before the first retry; doubled after every further failure
+ * @param maxBackoff     upper bound for the retry delay
+ * @param pollerEnabled  whether the scheduled poll dispatches; dispatchPending can still be called directly
+ * @param retention      how long dispatched events are kept before the nightly purge deletes them
+ */
+@ConfigurationProperties(prefix = "daycare.outbox")
+public record OutboxProperties(
+    @DefaultValue("100") int batchSize,
+    @DefaultValue("20") int maxAttempts,
+    @DefaultValue("1s") Duration initialBackoff,
+    @DefaultValue("5m") Duration maxBackoff,
+    @DefaultValue("true") boolean pollerEnabled,
+    @DefaultValue("7d") Duration retention
+) {}
@@ -0,0 +1,12 @@
+package com.doggydaycare.backend.outbox;
+
+/**
+ * Where dispatched outbox events go, e.g. a message broker or a notification service.
+ * <p>
+ * Delivery is at least once: a message is sent again if the dispatcher fails
+ * before recording it as dispatched. Throwing marks the message for a retry.
+ */
+public interface OutboxSink {
+
+    void send(OutboxMessage message);
+}
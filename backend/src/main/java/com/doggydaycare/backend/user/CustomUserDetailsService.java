@@ -1,22 +1,147 @@
 package com.doggydaycare.backend.user;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.jspecify.annotations.NonNull;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads principals by email, backed by a bounded, TTL-based in-memory cache
+ * so authenticating a request does not cost a database round trip.
+ * <p>
+ * {@link UserService} evicts a user's entry when it changes. An entry read just
+ * before a concurrent change may survive the eviction; the TTL bounds how long.
+ * <p>
+ * Also stores upgraded password hashes produced on login.
+ * <p>
+ * Metrics: cache.gets/puts/evictions{cache=principals} and
+ * auth.principal.lookup{cache=hit|miss}.
+ */
 @Service
-@RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final Cache<String, CachedPrincipal> principals;
+    private final Timer hitTimer;
+    private final Timer missTimer;
+
+    public CustomUserDetailsService(
+        UserRepository userRepository,
+        PrincipalCacheProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.principals = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.ttl())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
+        this.hitTimer = lookupTimer(meterRegistry, "hit");
+        this.missTimer = lookupTimer(meterRegistry, "miss");
+    }
 
     @Override
     @NonNull
     public UserDetails loadUserByUsername(@NonNull String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
+        long start = System.nanoTime();
+
+        CachedPrincipal cached = principals.getIfPresent(email);
+        if (cached != null) {
+            hitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached.toUserDetails();
+        }
+
+        // Unknown emails are not cached, so a user created later can log in right away
+        UserEntity user = userRepository.findByEmail(email)
             .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        CachedPrincipal loaded = CachedPrincipal.of(user);
+        principals.put(email, loaded);
+
+        missTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return loaded.toUserDetails();
+    }
+
+    /**
+     * Stores a re-encoded password after a login that matched an outdated hash
+     * (no {id} prefix, another algorithm, or a lower cost than configured).
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserEntity entity = userRepository.findByEmail(user.getUsername())
+            .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + user.getUsername()));
+        entity.setPassword(newPassword);
+        userRepository.save(entity);
+
+        CachedPrincipal updated = CachedPrincipal.of(entity);
+        principals.put(entity.getEmail(), updated);
+        return updated.toUserDetails();
+    }
+
+    /**
+     * Drops the cached principal for an email once the current transaction commits,
+     * so the next authentication reads the committed user.
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            principals.invalidate(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                principals.invalidate(email);
+            }
+        });
+    }
+
+    /* =======================
+       Internal helpers
+       ======================= */
+
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("auth.principal.lookup")
+            .description("Time to resolve the principal for an authentication")
+            .tag("cache", result)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    /**
+     * Immutable snapshot of the fields authentication needs.
+     * A fresh UserDetails is handed out per call, so erasing credentials
+     * after authentication never clears the cached password.
+     */
+    private record CachedPrincipal(String email, String password, Role role, boolean enabled, boolean locked) {
+
+        static CachedPrincipal of(UserEntity user) {
+            return new CachedPrincipal(
+                user.getEmail(), user.getPassword(), user.getRole(), user.isEnabled(), !user.isAccountNonLocked()
+            );
+        }
+
+        UserDetails toUserDetails() {
+            return User.withUsername(email)
+                .password(password)
+                .roles(role.name())
+                .disabled(!enabled)
+                .accountLocked(locked)
+                .build();
+        }
     }
 }
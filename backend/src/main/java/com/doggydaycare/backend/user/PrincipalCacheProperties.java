@@ -0,0 +1,18 @@
+package com.doggydaycare.backend.user;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Sizing of the authenticated principal cache in {@link CustomUserDetailsService}.
+ *
+ * @param maximumSize max number of cached principals
+ * @param ttl         how long a principal is served from the cache before it is re-read
+ */
+@ConfigurationProperties(prefix = "daycare.security.principal-cache")
+public record PrincipalCacheProperties(
+    @DefaultValue("10000") long maximumSize,
+    @DefaultValue("5m") Duration ttl
+) {}
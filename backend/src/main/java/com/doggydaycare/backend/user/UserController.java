@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/users")
@@ -26,11 +27,11 @@ public class UserController {
        ======================= */
 
     /**
-     * Creates a new user.
+     * Creates a new user. The request thread is released while the password is hashed.
      */
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public UserResponse create(@Valid @RequestBody UserCreateRequest request) {
+    public CompletableFuture<UserResponse> create(@Valid @RequestBody UserCreateRequest request) {
         return userService.create(request);
     }
 
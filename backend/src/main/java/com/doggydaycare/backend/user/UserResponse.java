@@ -12,4 +12,22 @@ public record UserResponse(
     String emergencyContact,
     Role role,
     boolean enabled
-) {}
+) {
+
+    /**
+     * Maps entity to response DTO.
+     */
+    public static UserResponse from(UserEntity user) {
+        return new UserResponse(
+            user.getId(),
+            user.getEmail(),
+            user.getFirstName(),
+            user.getLastName(),
+            user.getFullName(),
+            user.getMobileNumber(),
+            user.getEmergencyContact(),
+            user.getRole(),
+            user.isEnabled()
+        );
+    }
+}
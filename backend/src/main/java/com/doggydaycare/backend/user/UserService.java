@@ -1,12 +1,17 @@
 package com.doggydaycare.backend.user;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.doggydaycare.backend.auth.PasswordHasher;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+@Timed(value = "user.service", description = "UserService calls", histogram = true)
 @Service
 @Transactional
 public class UserService {
@@ -14,24 +19,40 @@ public class UserService {
     private static final String USER_NOT_FOUND = "User not found";
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final CustomUserDetailsService userDetailsService;
+    private final TransactionTemplate transactionTemplate;
 
     public UserService(
         UserRepository userRepository,
-        PasswordEncoder passwordEncoder
+        PasswordHasher passwordHasher,
+        CustomUserDetailsService userDetailsService,
+        TransactionTemplate transactionTemplate
     ) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.userDetailsService = userDetailsService;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /* =======================
        Create
        ======================= */
 
-    public UserResponse create(UserCreateRequest request) {
+    /**
+     * Hashes the password on the password hasher's executor, then saves the user.
+     * No transaction or connection is held while hashing.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<UserResponse> create(UserCreateRequest request) {
+        return passwordHasher.encode(request.password())
+            .thenApply(passwordHash -> transactionTemplate.execute(status -> save(request, passwordHash)));
+    }
+
+    private UserResponse save(UserCreateRequest request, String passwordHash) {
         UserEntity user = UserEntity.builder()
             .email(request.email())
-            .password(passwordEncoder.encode(request.password()))
+            .password(passwordHash)
             .firstName(request.firstName())
             .lastName(request.lastName())
             .mobileNumber(request.mobileNumber())
@@ -42,7 +63,7 @@ public class UserService {
             .build();
 
         UserEntity saved = userRepository.save(user);
-        return toResponse(saved);
+        return UserResponse.from(saved);
     }
 
     /* =======================
@@ -52,7 +73,7 @@ public class UserService {
     @Transactional(readOnly = true)
     public List<UserResponse> getAll() {
         return userRepository.findByRoleAndDeletedFalse(Role.OWNER).stream()
-            .map(UserService::toResponse)
+            .map(UserResponse::from)
             .toList();
     }
 
@@ -61,7 +82,7 @@ public class UserService {
         UserEntity user = userRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException(USER_NOT_FOUND));
 
-        return toResponse(user);
+        return UserResponse.from(user);
     }
 
     /* =======================
@@ -72,9 +93,11 @@ public class UserService {
         UserEntity user = userRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException(USER_NOT_FOUND));
 
+        // Evict under the current email: an email change leaves no entry behind for the old one
+        userDetailsService.evict(user.getEmail());
         applyUpdates(user, request);
 
-        return toResponse(user);
+        return UserResponse.from(user);
     }
 
     /* =======================
@@ -87,6 +110,7 @@ public class UserService {
 
         user.setDeleted(true);
         user.setEnabled(false);
+        userDetailsService.evict(user.getEmail());
     }
 
     /* =======================
@@ -113,19 +137,5 @@ public class UserService {
             user.setEnabled(request.enabled());
         }
     }
-
-    private static UserResponse toResponse(UserEntity user) {
-        return new UserResponse(
-            user.getId(),
-            user.getEmail(),
-            user.getFirstName(),
-            user.getLastName(),
-            user.getFullName(),
-            user.getMobileNumber(),
-            user.getEmergencyContact(),
-            user.getRole(),
-            user.isEnabled()
-        );
-    }
 }
 
@@ -0,0 +1,65 @@
+-- Schema as previously generated by Hibernate (ddl-auto) for MySQL.
+-- Existing databases are baselined at this version and skip it.
+
+CREATE TABLE users (
+    deleted           BIT          NOT NULL,
+    enabled           BIT          NOT NULL,
+    created_at        DATETIME(6),
+    updated_at        DATETIME(6),
+    id                BINARY(16)   NOT NULL,
+    created_by        VARCHAR(255),
+    email             VARCHAR(255) NOT NULL,
+    emergency_contact VARCHAR(255),
+    first_name        VARCHAR(255),
+    last_name         VARCHAR(255),
+    mobile_number     VARCHAR(255),
+    password          VARCHAR(255) NOT NULL,
+    updated_by        VARCHAR(255),
+    role              ENUM ('ADMIN','OWNER','STAFF') NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE dogs (
+    age        INTEGER      NOT NULL,
+    deleted    BIT          NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    id         BINARY(16)   NOT NULL,
+    user_id    BINARY(16),
+    breed      VARCHAR(255),
+    name       VARCHAR(255) NOT NULL,
+    dog_info   TEXT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE bookings (
+    actual_check_in_time    TIME(0),
+    actual_check_out_time   TIME(0),
+    date                    DATE       NOT NULL,
+    deleted                 BIT        NOT NULL,
+    expected_check_in_time  TIME(0),
+    expected_check_out_time TIME(0),
+    created_at              DATETIME(6),
+    updated_at              DATETIME(6),
+    booked_by_id            BINARY(16) NOT NULL,
+    dog_id                  BINARY(16) NOT NULL,
+    id                      BINARY(16) NOT NULL,
+    notes                   TEXT,
+    status                  ENUM ('CANCELLED','CHECKED_IN','CHECKED_OUT','CONFIRMED','NO_SHOW','PENDING') NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_booking_date ON bookings (date);
+CREATE INDEX idx_booking_status ON bookings (status);
+CREATE INDEX idx_booking_dog ON bookings (dog_id);
+CREATE INDEX idx_user_email ON users (email);
+
+ALTER TABLE users ADD CONSTRAINT UK6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email);
+ALTER TABLE users ADD CONSTRAINT UKr7c96a004bv8w16jgdm8imich UNIQUE (mobile_number);
+
+ALTER TABLE bookings
+    ADD CONSTRAINT FKbt3dg0mb0qhb55b01wja764mg FOREIGN KEY (booked_by_id) REFERENCES users (id);
+ALTER TABLE bookings
+    ADD CONSTRAINT FKm94qeufymali70k2ry6bkmfkj FOREIGN KEY (dog_id) REFERENCES dogs (id);
+ALTER TABLE dogs
+    ADD CONSTRAINT FKsk4f0m5le3o4n8mjugyribthu FOREIGN KEY (user_id) REFERENCES users (id);
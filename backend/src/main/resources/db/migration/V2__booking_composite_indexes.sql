@@ -0,0 +1,37 @@
+-- Composite indexes matching the BookingRepository queries, which all filter on deleted,
+-- plus a unique constraint allowing one live (non-deleted) booking per dog per day.
+
+-- live is 1 while a booking is not deleted and NULL once soft deleted.
+-- NULLs never collide in a unique index, so deleted bookings don't block a rebooking.
+ALTER TABLE bookings ADD COLUMN live BIT NULL;
+
+UPDATE bookings SET live = 1 WHERE deleted = 0;
+
+-- Concurrent creates may already have produced duplicates.
+-- Keep the earliest booking per dog and day and soft delete the rest.
+UPDATE bookings b
+    JOIN (
+        SELECT id
+        FROM (
+            SELECT id,
+                   ROW_NUMBER() OVER (PARTITION BY dog_id, date ORDER BY created_at, id) AS rn
+            FROM bookings
+            WHERE deleted = 0
+        ) ranked
+        WHERE rn > 1
+    ) duplicate ON duplicate.id = b.id
+SET b.deleted = 1,
+    b.live    = NULL;
+
+CREATE INDEX idx_booking_dog_date_deleted ON bookings (dog_id, date, deleted);
+CREATE INDEX idx_booking_date_deleted_status ON bookings (date, deleted, status);
+CREATE INDEX idx_booking_status_deleted_date ON bookings (status, deleted, date);
+CREATE INDEX idx_booking_booked_by_deleted_date ON bookings (booked_by_id, deleted, date);
+CREATE INDEX idx_booking_deleted_date ON bookings (deleted, date);
+
+ALTER TABLE bookings ADD CONSTRAINT uk_booking_dog_date_live UNIQUE (dog_id, date, live);
+
+-- Covered by the composite indexes above (dropped last so the FKs always have an index)
+DROP INDEX idx_booking_date ON bookings;
+DROP INDEX idx_booking_status ON bookings;
+DROP INDEX idx_booking_dog ON bookings;
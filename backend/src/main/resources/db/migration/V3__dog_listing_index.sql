@@ -0,0 +1,3 @@
+-- Backs the paginated dog listing, which filters on deleted and orders by (name, id).
+-- InnoDB appends the primary key to secondary indexes, so id is covered too.
+CREATE INDEX idx_dog_deleted_name ON dogs (deleted, name);
@@ -0,0 +1,18 @@
+-- Transactional outbox: booking events are written in the same transaction as the
+-- booking change and handed to downstream consumers by OutboxDispatcher.
+
+CREATE TABLE outbox_events (
+    attempts       INTEGER      NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    dispatched_at  DATETIME(6),
+    aggregate_id   BINARY(16)   NOT NULL,
+    id             BINARY(16)   NOT NULL,
+    aggregate_type VARCHAR(50)  NOT NULL,
+    event_type     VARCHAR(50)  NOT NULL,
+    last_error     VARCHAR(1000),
+    payload        TEXT         NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- Pending events are claimed oldest first (dispatched_at IS NULL ORDER BY created_at)
+CREATE INDEX idx_outbox_pending ON outbox_events (dispatched_at, created_at);
@@ -0,0 +1,55 @@
+-- Pre-aggregated booking statistics for the analytics endpoints.
+-- Kept up to date by BookingStatsRecorder and reconciled nightly; the backfill
+-- below seeds them from existing bookings.
+
+CREATE TABLE booking_daily_stats (
+    date         DATE        NOT NULL,
+    pending      INTEGER     NOT NULL,
+    confirmed    INTEGER     NOT NULL,
+    checked_in   INTEGER     NOT NULL,
+    checked_out  INTEGER     NOT NULL,
+    cancelled    INTEGER     NOT NULL,
+    no_show      INTEGER     NOT NULL,
+    stays        INTEGER     NOT NULL,
+    stay_minutes BIGINT      NOT NULL,
+    updated_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (date)
+) ENGINE = InnoDB;
+
+CREATE TABLE booking_owner_stats (
+    owner_id   BINARY(16)  NOT NULL,
+    attended   INTEGER     NOT NULL,
+    no_shows   INTEGER     NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (owner_id)
+) ENGINE = InnoDB;
+
+INSERT INTO booking_daily_stats
+    (date, pending, confirmed, checked_in, checked_out, cancelled, no_show, stays, stay_minutes, updated_at)
+SELECT date,
+       SUM(status = 'PENDING'),
+       SUM(status = 'CONFIRMED'),
+       SUM(status = 'CHECKED_IN'),
+       SUM(status = 'CHECKED_OUT'),
+       SUM(status = 'CANCELLED'),
+       SUM(status = 'NO_SHOW'),
+       SUM(status = 'CHECKED_OUT' AND actual_check_out_time > actual_check_in_time),
+       COALESCE(SUM(CASE
+           WHEN status = 'CHECKED_OUT' AND actual_check_out_time > actual_check_in_time
+           THEN (TIME_TO_SEC(actual_check_out_time) - TIME_TO_SEC(actual_check_in_time)) DIV 60
+       END), 0),
+       NOW(6)
+FROM bookings
+WHERE deleted = 0
+GROUP BY date;
+
+INSERT INTO booking_owner_stats (owner_id, attended, no_shows, updated_at)
+SELECT d.user_id,
+       SUM(b.status IN ('CHECKED_IN', 'CHECKED_OUT')),
+       SUM(b.status = 'NO_SHOW'),
+       NOW(6)
+FROM bookings b
+JOIN dogs d ON d.id = b.dog_id
+WHERE b.deleted = 0
+  AND d.user_id IS NOT NULL
+GROUP BY d.user_id;
@@ -0,0 +1,7 @@
+-- Failed outbox deliveries are retried with exponential backoff instead of on every poll.
+-- next_attempt_at is NULL until the first failure.
+
+ALTER TABLE outbox_events ADD COLUMN next_attempt_at DATETIME(6);
+
+-- An event waits behind an earlier event for the same aggregate that is backing off
+CREATE INDEX idx_outbox_aggregate ON outbox_events (aggregate_id, created_at);
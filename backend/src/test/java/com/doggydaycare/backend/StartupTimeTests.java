@@ -0,0 +1,51 @@
+package com.doggydaycare.backend;
+
+import com.doggydaycare.backend.config.DevDataInitializer;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the full application, web server included, and reports the time until it is ready.
+ * The budget is generous: the test catches startup regressions such as work moving back
+ * onto the startup path, not small fluctuations. Compare the logged time across changes.
+ */
+class StartupTimeTests {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupTimeTests.class);
+
+    private static final Duration STARTUP_BUDGET = Duration.ofSeconds(60);
+
+    @Test
+    void applicationStartsWithinBudgetWithoutDevData() {
+        AtomicLong readyAt = new AtomicLong();
+        long start = System.nanoTime();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+            .listeners(event -> {
+                if (event instanceof ApplicationReadyEvent) {
+                    readyAt.set(System.nanoTime());
+                }
+            })
+            .run(
+                "--spring.profiles.active=test",
+                "--spring.datasource.url=jdbc:h2:mem:startup;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--server.port=0"
+            )) {
+
+            Duration startup = Duration.ofNanos(readyAt.get() - start);
+            LOG.info("Application ready in {} ms", startup.toMillis());
+
+            assertThat(context.getBeanNamesForType(DevDataInitializer.class)).isEmpty();
+            assertThat(startup).isLessThan(STARTUP_BUDGET);
+        }
+    }
+}
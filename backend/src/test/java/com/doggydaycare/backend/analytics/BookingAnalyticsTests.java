@@ -0,0 +1,152 @@
+package com.doggydaycare.backend.analytics;
+
+import com.doggydaycare.backend.booking.BookingCreateRequest;
+import com.doggydaycare.backend.booking.BookingResponse;
+import com.doggydaycare.backend.booking.BookingService;
+import com.doggydaycare.backend.booking.BookingStatus;
+import com.doggydaycare.backend.booking.BookingUpdateRequest;
+import com.doggydaycare.backend.dog.DogEntity;
+import com.doggydaycare.backend.dog.DogRepository;
+import com.doggydaycare.backend.user.Role;
+import com.doggydaycare.backend.user.UserEntity;
+import com.doggydaycare.backend.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rollups follow booking changes, reports read only the rollup rows,
+ * and reconciliation repairs rows changed behind the recorder's back.
+ */
+@SpringBootTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:analytics;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class BookingAnalyticsTests {
+
+    private static final LocalDate MONDAY = LocalDate.of(2037, 3, 2);
+
+    @Autowired
+    private BookingAnalyticsService analyticsService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingDailyStatsRepository dailyStatsRepository;
+
+    @Autowired
+    private DogRepository dogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void rollupsFollowLifecycleAndReportsReadOnlyRollupRows() {
+        UserEntity owner = owner();
+        BookingResponse stayed = book(owner, MONDAY);
+        BookingResponse cancelled = book(owner, MONDAY);
+        BookingResponse moved = book(owner, MONDAY);
+        BookingResponse deleted = book(owner, MONDAY.plusDays(1));
+
+        bookingService.checkIn(stayed.id());
+        bookingService.checkOut(stayed.id());
+        bookingService.cancelBooking(cancelled.id());
+        bookingService.updateBooking(moved.id(), new BookingUpdateRequest(MONDAY.plusDays(7), null, null, null));
+        bookingService.deleteBooking(deleted.id());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        OccupancyReportResponse report = analyticsService.getOccupancyReport(MONDAY, MONDAY.plusDays(365));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        OccupancyStatsResponse monday = report.days().getFirst();
+        assertThat(monday.bookingsByStatus().get(BookingStatus.CHECKED_OUT)).isEqualTo(1);
+        assertThat(monday.bookingsByStatus().get(BookingStatus.CANCELLED)).isEqualTo(1);
+        assertThat(monday.bookingsByStatus().get(BookingStatus.CONFIRMED)).isZero();
+        assertThat(monday.occupying()).isEqualTo(1);
+        assertThat(report.days().get(1).occupying()).isZero();
+
+        assertThat(report.weeks()).hasSize(53);
+        assertThat(report.weeks().get(1).bookingsByStatus().get(BookingStatus.CONFIRMED)).isEqualTo(1);
+        assertThat(report.total().occupying()).isEqualTo(2);
+        assertThat(report.total().capacity()).isEqualTo(366 * 50);
+
+        // Nothing was changed behind the recorder's back, so there is nothing to correct
+        long rowsBefore = dailyStatsRepository.count();
+        analyticsService.reconcile(MONDAY, MONDAY.plusDays(30));
+        assertThat(dailyStatsRepository.count()).isEqualTo(rowsBefore);
+        assertThat(dailyStatsRepository.findById(MONDAY)).get()
+            .satisfies(row -> assertThat(row.getCheckedOut()).isEqualTo(1));
+    }
+
+    @Test
+    void reconciliationRepairsDriftedRollups() {
+        UserEntity owner = owner();
+        LocalDate date = MONDAY.plusDays(100);
+        BookingResponse booking = book(owner, date);
+        BookingResponse stayed = book(owner, date);
+        bookingService.checkIn(booking.id());
+
+        // Changes that bypass BookingService leave the rollups stale
+        jdbcTemplate.update("update bookings set status = 'NO_SHOW' where id = ?", booking.id());
+        jdbcTemplate.update(
+            "update bookings set status = 'CHECKED_OUT', actual_check_in_time = '08:00:40',"
+                + " actual_check_out_time = '16:30:10' where id = ?", stayed.id());
+        jdbcTemplate.update("update booking_daily_stats set pending = 7 where date = ?", date);
+
+        analyticsService.reconcile(date, date);
+
+        assertThat(dailyStatsRepository.findById(date)).get().satisfies(row -> {
+            assertThat(row.getPending()).isZero();
+            assertThat(row.getCheckedIn()).isZero();
+            assertThat(row.getNoShow()).isEqualTo(1);
+            assertThat(row.getCheckedOut()).isEqualTo(1);
+            assertThat(row.getStays()).isEqualTo(1);
+            // 8 h 29 min 30 s, counted in whole minutes as the live rollup does
+            assertThat(row.getStayMinutes()).isEqualTo(509);
+        });
+        assertThat(analyticsService.getTopNoShows(100))
+            .filteredOn(response -> response.ownerId().equals(owner.getId()))
+            .singleElement()
+            .satisfies(response -> {
+                assertThat(response.ownerName()).isEqualTo("Nora Noshow");
+                assertThat(response.noShows()).isEqualTo(1);
+                assertThat(response.noShowRate()).isEqualTo(0.5);
+            });
+    }
+
+    private UserEntity owner() {
+        return userRepository.save(UserEntity.builder()
+            .email("analytics-" + UUID.randomUUID() + "@doggydaycare.com")
+            .password("not-used")
+            .firstName("Nora")
+            .lastName("Noshow")
+            .role(Role.OWNER)
+            .enabled(true)
+            .build());
+    }
+
+    private BookingResponse book(UserEntity owner, LocalDate date) {
+        DogEntity dog = dogRepository.save(DogEntity.builder().name("Analytics").user(owner).build());
+        return bookingService.createBooking(new BookingCreateRequest(
+            dog.getId(), owner.getId(), date, LocalTime.of(8, 0), LocalTime.of(16, 0), null
+        ));
+    }
+}
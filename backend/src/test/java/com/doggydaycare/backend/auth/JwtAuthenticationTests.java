@@ -0,0 +1,152 @@
+package com.doggydaycare.backend.auth;
+
+import com.doggydaycare.backend.user.Role;
+import com.doggydaycare.backend.user.UserEntity;
+import com.doggydaycare.backend.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Login, refresh and bearer-token access with authentication required.
+ */
+@SpringBootTest(properties = "daycare.security.require-authentication=true")
+@ActiveProfiles("test")
+class JwtAuthenticationTests {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private MockMvc mockMvc;
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+
+        email = "jwt-" + UUID.randomUUID() + "@doggydaycare.com";
+        userRepository.save(UserEntity.builder()
+            .email(email)
+            .password(passwordEncoder.encode(PASSWORD))
+            .role(Role.STAFF)
+            .enabled(true)
+            .build());
+    }
+
+    @Test
+    void accessTokenAuthorizesApiRequests() throws Exception {
+        TokenResponse tokens = login(PASSWORD);
+
+        VerifiedToken verified = jwtService.verify(tokens.accessToken());
+        assertThat(verified.subject()).isEqualTo(email);
+        assertThat(verified.authorities()).extracting(Object::toString).containsExactly("ROLE_STAFF");
+
+        mockMvc.perform(get("/api/v1/dogs").header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.accessToken()))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void requestsWithoutValidAccessTokenAreRejected() throws Exception {
+        TokenResponse tokens = login(PASSWORD);
+
+        mockMvc.perform(get("/api/v1/dogs"))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/dogs").header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.refreshToken()))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/dogs").header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.accessToken() + "x"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void wrongPasswordIsRejected() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"email":"%s","password":"wrong"}
+                    """.formatted(email)))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void refreshTokenIssuesNewPair() throws Exception {
+        TokenResponse tokens = login(PASSWORD);
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"refreshToken":"%s"}
+                    """.formatted(tokens.refreshToken())))
+            .andExpect(status().isOk());
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"refreshToken":"%s"}
+                    """.formatted(tokens.accessToken())))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void asyncUserCreationCompletesWithAccessToken() throws Exception {
+        TokenResponse tokens = login(PASSWORD);
+        String newEmail = "async-" + UUID.randomUUID() + "@doggydaycare.com";
+
+        // The password is hashed off the request thread, so the response is written on an ASYNC re-dispatch
+        MvcResult started = mockMvc.perform(post("/api/v1/users")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.accessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"email":"%s","password":"%s","firstName":"Async","lastName":"Owner",
+                     "mobileNumber":"070-123 45 67","emergencyContact":"070-765 43 21"}
+                    """.formatted(newEmail, PASSWORD)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isCreated());
+        assertThat(userRepository.existsByEmail(newEmail)).isTrue();
+    }
+
+    private TokenResponse login(String password) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"email":"%s","password":"%s"}
+                    """.formatted(email, password)))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        String accessToken = body.replaceAll(".*\"accessToken\":\"([^\"]+)\".*", "$1");
+        String refreshToken = body.replaceAll(".*\"refreshToken\":\"([^\"]+)\".*", "$1");
+        return new TokenResponse(accessToken, refreshToken, "Bearer", 0);
+    }
+}
@@ -0,0 +1,102 @@
+package com.doggydaycare.backend.auth;
+
+import com.doggydaycare.backend.user.Role;
+import com.doggydaycare.backend.user.UserCreateRequest;
+import com.doggydaycare.backend.user.UserEntity;
+import com.doggydaycare.backend.user.UserRepository;
+import com.doggydaycare.backend.user.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Covers the prefixed hash format, rehash on login and the bounded hashing executor.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PasswordHashingTests {
+
+    private static final String PASSWORD = "hunter2hunter2";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void createdUsersGetPrefixedHashes() {
+        String email = "hash-" + UUID.randomUUID() + "@doggydaycare.com";
+
+        userService.create(new UserCreateRequest(email, PASSWORD, "Hash", "Test", null, null)).join();
+
+        assertThat(userRepository.findByEmail(email).orElseThrow().getPassword()).startsWith("{bcrypt}$2a$10$");
+    }
+
+    @Test
+    void legacyHashIsUpgradedOnLogin() {
+        String email = "legacy-" + UUID.randomUUID() + "@doggydaycare.com";
+        userRepository.save(UserEntity.builder()
+            .email(email)
+            .password(new BCryptPasswordEncoder(4).encode(PASSWORD))
+            .role(Role.OWNER)
+            .enabled(true)
+            .build());
+
+        authService.login(new LoginRequest(email, PASSWORD));
+
+        String upgraded = userRepository.findByEmail(email).orElseThrow().getPassword();
+        assertThat(upgraded).startsWith("{bcrypt}$2a$10$");
+        assertThat(authService.login(new LoginRequest(email, PASSWORD)).accessToken()).isNotBlank();
+    }
+
+    @Test
+    void fullQueueRejectsInsteadOfBlocking() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slowEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hashed";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+        PasswordHasher hasher = new PasswordHasher(
+            slowEncoder, new PasswordHashingProperties("bcrypt", 10, 1, 1), new SimpleMeterRegistry()
+        );
+
+        CompletableFuture<String> running = hasher.encode("a");
+        CompletableFuture<String> queued = hasher.encode("b");
+        CompletableFuture<String> rejected = hasher.encode("c");
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(rejected.exceptionNow()).isInstanceOf(PasswordHashingBusyException.class);
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo("hashed");
+        assertThat(queued.join()).isEqualTo("hashed");
+        hasher.shutdown();
+    }
+}
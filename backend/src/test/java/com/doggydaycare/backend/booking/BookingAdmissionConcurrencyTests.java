@@ -0,0 +1,136 @@
+package com.doggydaycare.backend.booking;
+
+import com.doggydaycare.backend.dog.DogEntity;
+import com.doggydaycare.backend.dog.DogRepository;
+import com.doggydaycare.backend.user.Role;
+import com.doggydaycare.backend.user.UserEntity;
+import com.doggydaycare.backend.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires thousands of concurrent createBooking calls at a small set of dog-days
+ * and asserts that exactly one booking wins per dog and day, and that places
+ * taken by losing requests are handed back to the capacity index.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingAdmissionConcurrencyTests {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BookingAdmissionConcurrencyTests.class);
+
+    private static final int DOGS = 20;
+    private static final int DAYS = 5;
+    private static final int ATTEMPTS_PER_DOG_DAY = 20;
+    private static final int THREADS = 32;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2033, 9, 1);
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingCapacityService capacityService;
+
+    @Autowired
+    private DogRepository dogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void concurrentCreatesAdmitExactlyOneBookingPerDogDay() throws InterruptedException {
+        UserEntity owner = userRepository.save(UserEntity.builder()
+            .email("admission@doggydaycare.com")
+            .password("not-used")
+            .mobileNumber("+46709990002")
+            .role(Role.OWNER)
+            .enabled(true)
+            .build());
+
+        List<UUID> dogIds = new ArrayList<>();
+        for (int i = 0; i < DOGS; i++) {
+            dogIds.add(dogRepository.save(DogEntity.builder().name("Admission " + i).user(owner).build()).getId());
+        }
+
+        List<BookingCreateRequest> requests = new ArrayList<>();
+        for (UUID dogId : dogIds) {
+            for (int day = 0; day < DAYS; day++) {
+                for (int attempt = 0; attempt < ATTEMPTS_PER_DOG_DAY; attempt++) {
+                    requests.add(new BookingCreateRequest(
+                        dogId, owner.getId(), FIRST_DAY.plusDays(day),
+                        LocalTime.of(8, 0), LocalTime.of(16, 0), null
+                    ));
+                }
+            }
+        }
+        Collections.shuffle(requests);
+
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        long startNanos;
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (BookingCreateRequest request : requests) {
+                executor.submit(() -> {
+                    start.await();
+                    try {
+                        bookingService.createBooking(request);
+                        created.incrementAndGet();
+                    } catch (BookingConflictException e) {
+                        conflicts.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        unexpected.add(e);
+                    }
+                    return null;
+                });
+            }
+            startNanos = System.nanoTime();
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+        LOG.info("{} concurrent creates in {} s ({} req/s): {} created, {} conflicts",
+            requests.size(), String.format("%.2f", seconds),
+            String.format("%.0f", requests.size() / seconds), created.get(), conflicts.get());
+
+        assertThat(unexpected).isEmpty();
+        assertThat(created.get()).isEqualTo(DOGS * DAYS);
+        assertThat(conflicts.get()).isEqualTo(requests.size() - DOGS * DAYS);
+
+        for (UUID dogId : dogIds) {
+            assertThat(bookingRepository.findResponsesByDogId(dogId))
+                .extracting(BookingResponse::date)
+                .doesNotHaveDuplicates()
+                .hasSize(DAYS);
+        }
+        for (int day = 0; day < DAYS; day++) {
+            assertThat(capacityService.getCapacity(FIRST_DAY.plusDays(day)).booked()).isEqualTo(DOGS);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.doggydaycare.backend.booking;
+
+import com.doggydaycare.backend.dog.DogEntity;
+import com.doggydaycare.backend.dog.DogRepository;
+import com.doggydaycare.backend.user.Role;
+import com.doggydaycare.backend.user.UserEntity;
+import com.doggydaycare.backend.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Admission against the daily and per-slot limits (50 a day, 40 per hourly slot from 06:00).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingCapacityTests {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingCapacityService capacityService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private DogRepository dogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserEntity owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(UserEntity.builder()
+            .email("capacity-" + UUID.randomUUID() + "@doggydaycare.com")
+            .password("not-used")
+            .role(Role.OWNER)
+            .enabled(true)
+            .build());
+    }
+
+    @Test
+    void changingTimesOnAFullDayKeepsTheBookingsPlace() {
+        LocalDate date = LocalDate.of(2047, 3, 4);
+        List<BookingResponse> mornings = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            mornings.add(book(date, LocalTime.of(7, 0), LocalTime.of(12, 0)));
+            book(date, LocalTime.of(12, 0), LocalTime.of(17, 0));
+        }
+        assertThatThrownBy(() -> book(date, LocalTime.of(7, 0), LocalTime.of(8, 0)))
+            .isInstanceOf(CapacityExceededException.class);
+
+        BookingResponse moved = bookingService.updateBooking(mornings.getFirst().id(),
+            new BookingUpdateRequest(null, LocalTime.of(7, 0), LocalTime.of(11, 0), null));
+
+        assertThat(moved.expectedCheckOutTime()).isEqualTo(LocalTime.of(11, 0));
+        CapacityResponse capacity = capacityService.getCapacity(date);
+        assertThat(capacity.booked()).isEqualTo(50);
+        // The 11:00 slot the booking left is handed back, the others are unchanged
+        assertThat(capacity.slotOccupancy().subList(1, 7)).containsExactly(25, 25, 25, 25, 24, 25);
+    }
+
+    @Test
+    void changingTimesIntoAFullSlotIsRejectedAndKeepsTheOldSlots() {
+        LocalDate date = LocalDate.of(2047, 3, 5);
+        for (int i = 0; i < 40; i++) {
+            book(date, LocalTime.of(14, 0), LocalTime.of(15, 0));
+        }
+        BookingResponse morning = book(date, LocalTime.of(8, 0), LocalTime.of(12, 0));
+
+        assertThatThrownBy(() -> bookingService.updateBooking(morning.id(),
+            new BookingUpdateRequest(null, LocalTime.of(8, 0), LocalTime.of(15, 0), null)))
+            .isInstanceOf(CapacityExceededException.class);
+
+        CapacityResponse capacity = capacityService.getCapacity(date);
+        assertThat(capacity.booked()).isEqualTo(41);
+        assertThat(capacity.slotOccupancy().subList(2, 10)).containsExactly(1, 1, 1, 1, 0, 0, 40, 0);
+    }
+
+    @Test
+    void readingAnUnseenDateDoesNotCacheItsCounters() {
+        LocalDate date = LocalDate.of(2099, 6, 1);
+        assertThat(capacityService.getCapacity(date).booked()).isZero();
+
+        // Written behind the index's back: a cached read would still report zero
+        DogEntity dog = dogRepository.save(DogEntity.builder().name("Unseen").user(owner).build());
+        bookingRepository.save(BookingEntity.builder()
+            .date(date)
+            .expectedCheckInTime(LocalTime.of(8, 0))
+            .expectedCheckOutTime(LocalTime.of(16, 0))
+            .status(BookingStatus.CONFIRMED)
+            .dog(dog)
+            .bookedBy(owner)
+            .build());
+
+        assertThat(capacityService.getCapacity(date).booked()).isEqualTo(1);
+    }
+
+    private BookingResponse book(LocalDate date, LocalTime checkIn, LocalTime checkOut) {
+        DogEntity dog = dogRepository.save(DogEntity.builder().name("Capacity").user(owner).build());
+        return bookingService.createBooking(new BookingCreateRequest(
+            dog.getId(), owner.getId(), date, checkIn, checkOut, null
+        ));
+    }
+}
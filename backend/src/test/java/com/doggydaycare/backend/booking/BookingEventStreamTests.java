@@ -0,0 +1,225 @@
+package com.doggydaycare.backend.booking;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Holds thousands of stream subscribers at once and checks that each is served
+ * by a virtual thread, gets only the events its filter matches, and that a
+ * client that stops reading is capped at its buffer instead of growing without bound.
+ * Also covers the opening retry frame and the subscriber limit under concurrent subscribes.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:bookingstream;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "daycare.booking-stream.heartbeat=10m"
+})
+@ActiveProfiles("test")
+class BookingEventStreamTests {
+
+    private static final int SUBSCRIBERS = 5000;
+    private static final int EVENTS = 20;
+    private static final LocalDate DATE = LocalDate.of(2035, 6, 1);
+
+    @Autowired
+    private BookingEventStream eventStream;
+
+    @Autowired
+    private BookingStreamProperties properties;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final List<BookingEventStream.Subscription> subscriptions = new ArrayList<>();
+
+    @AfterEach
+    void cancelSubscriptions() {
+        subscriptions.forEach(BookingEventStream.Subscription::cancel);
+    }
+
+    @Test
+    void thousandsOfSubscribersShareAHandfulOfPlatformThreads() throws InterruptedException {
+        UUID dogId = UUID.randomUUID();
+        int platformThreadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+
+        List<RecordingEmitter> byDog = new ArrayList<>();
+        List<RecordingEmitter> byOtherDate = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            RecordingEmitter emitter = new RecordingEmitter(null);
+            boolean dogSubscriber = i % 2 == 0;
+            (dogSubscriber ? byDog : byOtherDate).add(emitter);
+            subscriptions.add(eventStream.subscribe(dogSubscriber
+                ? new BookingStreamFilter(null, dogId, null)
+                : new BookingStreamFilter(DATE.plusDays(1), null, null), emitter));
+        }
+
+        assertThat(eventStream.subscriberCount()).isGreaterThanOrEqualTo(SUBSCRIBERS);
+        assertThat(ManagementFactory.getThreadMXBean().getThreadCount() - platformThreadsBefore)
+            .as("platform threads started for %d subscribers", SUBSCRIBERS)
+            .isLessThan(50);
+
+        for (int i = 0; i < EVENTS; i++) {
+            eventPublisher.publishEvent(event(dogId, BookingEventType.CHECKED_IN));
+        }
+
+        awaitTrue(() -> byDog.stream().allMatch(emitter -> emitter.sent.get() == EVENTS));
+        assertThat(byOtherDate).allMatch(emitter -> emitter.sent.get() == 0);
+    }
+
+    @Test
+    void slowSubscriberDropsOldestEventsAndIsToldSo() throws InterruptedException {
+        UUID dogId = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        BookingEventStream.Subscription subscription =
+            eventStream.subscribe(new BookingStreamFilter(null, dogId, null), slow);
+        subscriptions.add(subscription);
+
+        int published = properties.bufferSize() * 4;
+        for (int i = 0; i < published; i++) {
+            eventPublisher.publishEvent(event(dogId, BookingEventType.CREATED));
+        }
+
+        assertThat(subscription.buffered()).isLessThanOrEqualTo(properties.bufferSize());
+        // At most one event is in flight in the blocked send, the buffer holds the rest
+        assertThat(subscription.dropped()).isGreaterThanOrEqualTo(published - properties.bufferSize() - 1L);
+
+        release.countDown();
+        // The drainer may have reported some drops before it blocked; either way every drop is reported
+        awaitTrue(() -> subscription.buffered() == 0 && slow.reportedDrops.get() == subscription.dropped());
+        assertThat(slow.overflowNotices.get()).isBetween(1, 2);
+        assertThat(slow.sent.get() + subscription.dropped()).isEqualTo(published);
+    }
+
+    @Test
+    void streamsOpenWithAReconnectDelay() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        subscriptions.add(eventStream.subscribe(new BookingStreamFilter(DATE, null, null), emitter));
+
+        // Written before any event, so the client gets the response headers at once
+        awaitTrue(() -> !emitter.controlFrames.isEmpty());
+        assertThat(emitter.controlFrames.getFirst())
+            .contains("retry:" + properties.reconnectDelay().toMillis());
+    }
+
+    @Test
+    void concurrentSubscribesNeverExceedTheLimit() throws InterruptedException {
+        int limit = 10;
+        BookingEventStream limited = new BookingEventStream(new BookingStreamProperties(
+            4, limit, Duration.ofMinutes(1), Duration.ofMinutes(10), Duration.ofSeconds(5)
+        ));
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Thread> subscribers = new ArrayList<>();
+        for (int i = 0; i < limit * 10; i++) {
+            subscribers.add(Thread.ofVirtual().start(() -> {
+                try {
+                    start.await();
+                    limited.subscribe(new BookingStreamFilter(DATE, null, null), new RecordingEmitter(null));
+                    accepted.incrementAndGet();
+                } catch (TooManySubscribersException e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread subscriber : subscribers) {
+            subscriber.join();
+        }
+
+        assertThat(accepted.get()).isEqualTo(limit);
+        assertThat(rejected.get()).isEqualTo(limit * 9);
+        assertThat(limited.subscriberCount()).isEqualTo(limit);
+        limited.shutdown();
+        assertThat(limited.subscriberCount()).isZero();
+    }
+
+    private static BookingEvent event(UUID dogId, BookingEventType type) {
+        BookingResponse booking = new BookingResponse(
+            UUID.randomUUID(), dogId, "Streamy", UUID.randomUUID(), DATE,
+            LocalTime.of(8, 0), LocalTime.of(16, 0), null, null,
+            BookingStatus.CONFIRMED, null, LocalDateTime.now(), LocalDateTime.now()
+        );
+        return new BookingEvent(type, booking, UUID.randomUUID(), "Stream Owner", null, null);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 30 s").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * Stands in for a client connection: counts what would be written,
+     * optionally blocking the first write until released.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final AtomicInteger sent = new AtomicInteger();
+        private final AtomicInteger overflowNotices = new AtomicInteger();
+        private final AtomicLong reportedDrops = new AtomicLong();
+        private final List<String> controlFrames = new CopyOnWriteArrayList<>();
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+            Set<DataWithMediaType> parts = builder.build();
+            if (parts.stream().map(DataWithMediaType::getData).allMatch(String.class::isInstance)) {
+                // Comments and retry frames carry no event
+                controlFrames.add(parts.stream().map(part -> (String) part.getData()).collect(Collectors.joining()));
+                return;
+            }
+            BookingStreamOverflow overflow = parts.stream()
+                .map(DataWithMediaType::getData)
+                .filter(BookingStreamOverflow.class::isInstance)
+                .map(BookingStreamOverflow.class::cast)
+                .findFirst()
+                .orElse(null);
+            if (overflow != null) {
+                overflowNotices.incrementAndGet();
+                reportedDrops.addAndGet(overflow.dropped());
+            } else {
+                sent.incrementAndGet();
+            }
+        }
+    }
+}
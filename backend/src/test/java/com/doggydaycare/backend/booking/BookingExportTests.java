@@ -0,0 +1,126 @@
+package com.doggydaycare.backend.booking;
+
+import com.doggydaycare.backend.dog.DogEntity;
+import com.doggydaycare.backend.dog.DogRepository;
+import com.doggydaycare.backend.user.Role;
+import com.doggydaycare.backend.user.UserEntity;
+import com.doggydaycare.backend.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The export streams the filtered bookings in date order as CSV or NDJSON.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingExportTests {
+
+    private static final LocalDate FROM = LocalDate.of(2045, 5, 1);
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private DogRepository dogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private MockMvc mockMvc;
+    private UserEntity owner;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        owner = userRepository.save(UserEntity.builder()
+            .email("export-" + UUID.randomUUID() + "@doggydaycare.com")
+            .password("not-used")
+            .firstName("Ezra")
+            .lastName("Export")
+            .role(Role.OWNER)
+            .enabled(true)
+            .build());
+    }
+
+    @Test
+    void csvExportFiltersByDateAndStatusAndQuotesFields() throws Exception {
+        LocalDate from = FROM;
+        BookingResponse later = book("Later", from.plusDays(1), null);
+        BookingResponse quoted = book("Quoted", from, "Bring \"Mr Duck\", his toy");
+        BookingResponse cancelled = book("Cancelled", from, null);
+        bookingService.cancelBooking(cancelled.id());
+        book("Outside", from.plusDays(2), null);
+
+        MvcResult result = export("from=" + from + "&to=" + from.plusDays(1) + "&status=CONFIRMED");
+
+        assertThat(result.getResponse().getContentType()).startsWith("text/csv");
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION))
+            .contains("bookings-" + from + "-to-" + from.plusDays(1) + ".csv");
+
+        List<String> lines = result.getResponse().getContentAsString().lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.getFirst()).startsWith("id,date,dogId,dogName");
+        assertThat(lines.get(1))
+            .startsWith(quoted.id() + "," + from + ",")
+            .contains(",\"Bring \"\"Mr Duck\"\", his toy\",");
+        assertThat(lines.get(2)).startsWith(later.id() + "," + from.plusDays(1) + ",");
+    }
+
+    @Test
+    void ndjsonExportWritesOneBookingPerLine() throws Exception {
+        LocalDate from = FROM.plusDays(10);
+        BookingResponse first = book("First", from, null);
+        BookingResponse second = book("Second", from.plusDays(3), null);
+
+        MvcResult result = export("from=" + from + "&to=" + from.plusDays(3) + "&format=NDJSON");
+
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+        List<BookingResponse> rows = result.getResponse().getContentAsString().lines()
+            .map(line -> jsonMapper.readValue(line, BookingResponse.class))
+            .toList();
+        assertThat(rows).extracting(BookingResponse::id).containsExactly(first.id(), second.id());
+        assertThat(rows.getFirst().dogName()).isEqualTo("First");
+    }
+
+    private MvcResult export(String query) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/bookings/export?" + query))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andReturn();
+    }
+
+    private BookingResponse book(String dogName, LocalDate date, String notes) {
+        DogEntity dog = dogRepository.save(DogEntity.builder().name(dogName).user(owner).build());
+        return bookingService.createBooking(new BookingCreateRequest(
+            dog.getId(), owner.getId(), date, LocalTime.of(8, 0), LocalTime.of(16, 0), notes
+        ));
+    }
+}
@@ -0,0 +1,109 @@
+package com.doggydaycare.backend.booking;
+
+import com.doggydaycare.backend.dog.DogRepository;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Captures the SQL Hibernate generates for each BookingRepository query, runs EXPLAIN
+ * on it and asserts that the planner uses an index instead of scanning the bookings table.
+ * Which of several matching indexes it picks is left to the planner.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingIndexUsageTests {
+
+    private static final UUID DOG_ID = UUID.fromString("59907958-43ed-4308-855e-e1374d37596b");
+    private static final UUID USER_ID = UUID.fromString("8bb888fc-525f-4a50-a0bd-f20177a9b6c2");
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 1);
+
+    private static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+    /**
+     * Records the SQL of every statement, then hands it on to the inspector already configured.
+     */
+    @TestConfiguration
+    static class SqlCapture {
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer() {
+            return properties -> {
+                StatementInspector next = (StatementInspector) properties.get(AvailableSettings.STATEMENT_INSPECTOR);
+                properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                    CAPTURED.add(sql);
+                    return next == null ? sql : next.inspect(sql);
+                });
+            };
+        }
+    }
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private DogRepository dogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+            query("findResponsesByDate", (bookings, dogs) -> bookings.findResponsesByDate(DATE)),
+            query("findResponsesByDogId", (bookings, dogs) -> bookings.findResponsesByDogId(DOG_ID)),
+            query("findResponsesByBookedById", (bookings, dogs) -> bookings.findResponsesByBookedById(USER_ID)),
+            query("findResponsesByStatus", (bookings, dogs) -> bookings.findResponsesByStatus(BookingStatus.CONFIRMED)),
+            query("findFirstPage", (bookings, dogs) -> bookings.findFirstPage(Limit.of(50))),
+            query("findLatest", (bookings, dogs) -> bookings.findLatest(Limit.of(50))),
+            query("findPageAfter", (bookings, dogs) -> bookings.findPageAfter(DATE, DOG_ID, Limit.of(50))),
+            query("findUnattendedIdsBefore", (bookings, dogs) -> bookings.findUnattendedIdsBefore(DATE, Limit.of(500))),
+            query("existsByDogAndDateAndDeletedFalse", (bookings, dogs) ->
+                bookings.existsByDogAndDateAndDeletedFalse(dogs.getReferenceById(DOG_ID), DATE))
+        );
+    }
+
+    private static Arguments query(String name, BiConsumer<BookingRepository, DogRepository> call) {
+        return Arguments.of(name, call);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void repositoryQueryUsesIndex(String query, BiConsumer<BookingRepository, DogRepository> call) {
+        CAPTURED.clear();
+        call.accept(bookingRepository, dogRepository);
+
+        List<String> statements = CAPTURED.stream()
+            .filter(sql -> sql.toLowerCase().contains("from bookings"))
+            .toList();
+        assertThat(statements).as("SQL captured for %s", query).hasSize(1);
+
+        // H2 plans prepared statements without parameter values
+        String plan = jdbcTemplate.query(
+            connection -> connection.prepareStatement("EXPLAIN " + statements.getFirst()),
+            rs -> rs.next() ? rs.getString(1) : null);
+
+        assertThat(plan)
+            .as("plan for %s: %s", query, statements.getFirst())
+            .isNotNull()
+            .doesNotContainIgnoringCase("bookings.tableScan");
+    }
+}
@@ -0,0 +1,272 @@
+package com.doggydaycare.backend.booking;
+
+import com.doggydaycare.backend.dog.DogEntity;
+import com.doggydaycare.backend.dog.DogRepository;
+import com.doggydaycare.backend.user.Role;
+import com.doggydaycare.backend.user.UserEntity;
+import com.doggydaycare.backend.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Guards the booking list endpoints against N+1 lazy loading.
+ * Each call must run a constant number of SQL statements, however many rows it returns.
+ * Bulk writes must batch their inserts instead of running one statement per row.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookingQueryCountTests {
+
+    private static final int BOOKINGS = 12;
+    private static final int MAX_STATEMENTS_PER_LIST_CALL = 2;
+    private static final int MAX_STATEMENTS_PER_BULK_CALL = 10;
+    private static final LocalDate DATE = LocalDate.of(2031, 3, 3);
+
+    @Autowired
+    private BookingController bookingController;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private DogRepository dogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UUID ownerId;
+    private UUID dogId;
+
+    @BeforeAll
+    void seedBookings() {
+        UserEntity owner = userRepository.save(UserEntity.builder()
+            .email("querycount@doggydaycare.com")
+            .password("not-used")
+            .firstName("Query")
+            .lastName("Count")
+            .mobileNumber("+46709990000")
+            .role(Role.OWNER)
+            .enabled(true)
+            .build());
+        ownerId = owner.getId();
+
+        for (int i = 0; i < BOOKINGS; i++) {
+            DogEntity dog = dogRepository.save(DogEntity.builder()
+                .name("Dog " + i)
+                .age(i)
+                .user(owner)
+                .build());
+            dogId = dog.getId();
+
+            bookingRepository.save(BookingEntity.builder()
+                .date(DATE)
+                .expectedCheckInTime(LocalTime.of(8, 0))
+                .expectedCheckOutTime(LocalTime.of(16, 0))
+                .status(BookingStatus.CONFIRMED)
+                .dog(dog)
+                .bookedBy(owner)
+                .build());
+        }
+    }
+
+    @Test
+    void getAllBookingsRunsConstantStatements() {
+        List<BookingResponse> bookings = assertMaxStatements(
+            () -> bookingController.getAllBookings().getBody()
+        );
+        assertThat(bookings).hasSizeGreaterThanOrEqualTo(BOOKINGS);
+    }
+
+    @Test
+    void getAllBookingsKeepsNewestRowsAndFlagsTruncation() {
+        UserEntity owner = userRepository.getReferenceById(ownerId);
+        DogEntity dog = dogRepository.save(DogEntity.builder().name("Truncation").age(1).user(owner).build());
+        LocalDate first = LocalDate.of(2300, 1, 1);
+        List<BookingEntity> future = new ArrayList<>();
+        for (int i = 0; i < BookingService.MAX_UNPAGED_ROWS; i++) {
+            future.add(BookingEntity.builder()
+                .date(first.plusDays(i))
+                .expectedCheckInTime(LocalTime.of(8, 0))
+                .expectedCheckOutTime(LocalTime.of(16, 0))
+                .status(BookingStatus.CONFIRMED)
+                .dog(dog)
+                .bookedBy(owner)
+                .build());
+        }
+        bookingRepository.saveAll(future);
+
+        ResponseEntity<List<BookingResponse>> response = bookingController.getAllBookings();
+
+        assertThat(response.getHeaders().getFirst(BookingController.TRUNCATED_HEADER)).isEqualTo("true");
+        assertThat(response.getBody()).hasSize(BookingService.MAX_UNPAGED_ROWS);
+        assertThat(response.getBody().getFirst().date()).isEqualTo(first.plusDays(BookingService.MAX_UNPAGED_ROWS - 1));
+        assertThat(response.getBody()).extracting(BookingResponse::date).allSatisfy(date -> assertThat(date).isAfterOrEqualTo(first));
+    }
+
+    @Test
+    void getBookingPageRunsConstantStatements() {
+        BookingPageResponse page = assertMaxStatements(
+            () -> bookingController.getBookingPage(null, null, 100).getBody()
+        );
+        assertThat(page.items()).hasSizeGreaterThanOrEqualTo(BOOKINGS);
+    }
+
+    @Test
+    void getBookingsByDateRunsConstantStatements() {
+        List<BookingResponse> bookings = assertMaxStatements(
+            () -> bookingController.getBookingsByDate(DATE).getBody()
+        );
+        assertThat(bookings).hasSize(BOOKINGS);
+        assertThat(bookings).allSatisfy(booking -> assertThat(booking.dogName()).startsWith("Dog "));
+    }
+
+    @Test
+    void getBookingsByDogIdRunsConstantStatements() {
+        List<BookingResponse> bookings = assertMaxStatements(
+            () -> bookingController.getBookingsByDogId(dogId).getBody()
+        );
+        assertThat(bookings).hasSize(1);
+    }
+
+    @Test
+    void getBookingsByUserIdRunsConstantStatements() {
+        List<BookingResponse> bookings = assertMaxStatements(
+            () -> bookingController.getBookingsByUserId(ownerId).getBody()
+        );
+        assertThat(bookings).hasSize(BOOKINGS);
+    }
+
+    @Test
+    void getBookingsByStatusRunsConstantStatements() {
+        List<BookingResponse> bookings = assertMaxStatements(
+            () -> bookingController.getBookingsByStatus(BookingStatus.CONFIRMED).getBody()
+        );
+        assertThat(bookings).hasSizeGreaterThanOrEqualTo(BOOKINGS);
+    }
+
+    @Test
+    void createRecurringBookingsBatchesInserts() {
+        UserEntity owner = userRepository.findById(ownerId).orElseThrow();
+        DogEntity regular = dogRepository.save(DogEntity.builder().name("Regular").user(owner).build());
+
+        BookingRecurrenceRequest request = new BookingRecurrenceRequest(
+            regular.getId(), ownerId, DATE.plusDays(1), DATE.plusDays(210),
+            EnumSet.allOf(DayOfWeek.class), LocalTime.of(8, 0), LocalTime.of(16, 0), null
+        );
+
+        BookingRecurrenceResponse response = assertMaxStatements(
+            MAX_STATEMENTS_PER_BULK_CALL,
+            () -> bookingController.createRecurringBookings(request).getBody()
+        );
+        assertThat(response.created()).isEqualTo(210);
+    }
+
+    @Test
+    void recurringBookingsSpanAtMost366DaysInclusive() {
+        UserEntity owner = userRepository.findById(ownerId).orElseThrow();
+        DogEntity weekly = dogRepository.save(DogEntity.builder().name("Weekly").user(owner).build());
+        LocalDate start = DATE.plusYears(1);
+
+        BookingRecurrenceRequest tooLong = new BookingRecurrenceRequest(
+            weekly.getId(), ownerId, start, start.plusDays(366),
+            EnumSet.of(DayOfWeek.MONDAY), LocalTime.of(8, 0), LocalTime.of(16, 0), null
+        );
+        assertThatThrownBy(() -> bookingController.createRecurringBookings(tooLong))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("366");
+
+        BookingRecurrenceRequest fullYear = new BookingRecurrenceRequest(
+            weekly.getId(), ownerId, start, start.plusDays(365),
+            EnumSet.of(DayOfWeek.MONDAY), LocalTime.of(8, 0), LocalTime.of(16, 0), null
+        );
+        assertThat(bookingController.createRecurringBookings(fullYear).getBody().created()).isPositive();
+    }
+
+    @Test
+    void batchCheckInRunsConstantStatements() {
+        UserEntity owner = userRepository.save(UserEntity.builder()
+            .email("dropoff@doggydaycare.com")
+            .password("not-used")
+            .firstName("Drop")
+            .lastName("Off")
+            .role(Role.OWNER)
+            .enabled(true)
+            .build());
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            DogEntity dog = dogRepository.save(DogEntity.builder().name("Wave " + i).user(owner).build());
+            ids.add(bookingRepository.save(BookingEntity.builder()
+                .date(DATE.minusDays(1))
+                .expectedCheckInTime(LocalTime.of(7, 30))
+                .expectedCheckOutTime(LocalTime.of(16, 0))
+                .status(i == 0 ? BookingStatus.CANCELLED : BookingStatus.CONFIRMED)
+                .dog(dog)
+                .bookedBy(owner)
+                .build()).getId());
+        }
+        UUID unknown = UUID.randomUUID();
+        ids.add(unknown);
+
+        BookingBatchResponse response = assertMaxStatements(
+            MAX_STATEMENTS_PER_BULK_CALL,
+            () -> bookingController.checkInAll(new BookingBatchRequest(ids)).getBody()
+        );
+
+        assertThat(response.succeeded()).isEqualTo(39);
+        assertThat(response.failed()).isEqualTo(2);
+        assertThat(response.results()).extracting(BookingBatchResult::bookingId).containsExactlyElementsOf(ids);
+        assertThat(response.results().getFirst().reason()).isEqualTo("Cannot check in a cancelled booking");
+        assertThat(response.results().getLast().reason()).contains(unknown.toString());
+        assertThat(response.results().subList(1, 40)).allSatisfy(result -> {
+            assertThat(result.succeeded()).isTrue();
+            assertThat(result.booking().status()).isEqualTo(BookingStatus.CHECKED_IN);
+            assertThat(result.booking().dogName()).startsWith("Wave ");
+        });
+        assertThat(bookingRepository.findById(ids.get(1))).get()
+            .satisfies(booking -> assertThat(booking.getStatus()).isEqualTo(BookingStatus.CHECKED_IN));
+    }
+
+    /* =======================
+       Statement counting
+       ======================= */
+
+    private <T> T assertMaxStatements(Supplier<T> call) {
+        return assertMaxStatements(MAX_STATEMENTS_PER_LIST_CALL, call);
+    }
+
+    private <T> T assertMaxStatements(int maxStatements, Supplier<T> call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        T result = call.get();
+
+        assertThat(statistics.getPrepareStatementCount())
+            .as("SQL statements for one call")
+            .isLessThanOrEqualTo(maxStatements);
+        return result;
+    }
+}
@@ -0,0 +1,140 @@
+package com.doggydaycare.backend.booking;
+
+import com.doggydaycare.backend.dog.DogEntity;
+import com.doggydaycare.backend.dog.DogRepository;
+import com.doggydaycare.backend.user.Role;
+import com.doggydaycare.backend.user.UserEntity;
+import com.doggydaycare.backend.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The daily roster is loaded once, kept current by booking events,
+ * and served to repeated polls without SQL.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DailyRosterTests {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private DailyRosterService rosterService;
+
+    @Autowired
+    private DogRepository dogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MockMvc mockMvc;
+    private UserEntity owner;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        owner = userRepository.save(UserEntity.builder()
+            .email("roster-" + UUID.randomUUID() + "@doggydaycare.com")
+            .password("not-used")
+            .firstName("Rosa")
+            .lastName("Roster")
+            .role(Role.OWNER)
+            .enabled(true)
+            .build());
+        // A date of its own per test, so other test classes never touch it
+        date = LocalDate.of(2034, 1, 1).plusDays(Math.floorMod(owner.getId().hashCode(), 3000));
+    }
+
+    @Test
+    void rosterFollowsBookingLifecycle() {
+        BookingResponse rex = book("Rex");
+        BookingResponse fido = book("Fido");
+
+        DailyRosterResponse roster = rosterService.getRoster(date).response();
+        assertThat(roster.total()).isEqualTo(2);
+        assertThat(roster.bookingsByStatus().get(BookingStatus.CONFIRMED))
+            .extracting(RosterEntry::dogName, RosterEntry::ownerName)
+            .containsExactlyInAnyOrder(
+                tuple("Rex", "Rosa Roster"),
+                tuple("Fido", "Rosa Roster"));
+
+        bookingService.checkIn(rex.id());
+        bookingService.cancelBooking(fido.id());
+        BookingResponse bella = book("Bella");
+
+        roster = rosterService.getRoster(date).response();
+        assertThat(roster.bookingsByStatus().get(BookingStatus.CHECKED_IN))
+            .singleElement()
+            .satisfies(entry -> assertThat(entry.actualCheckInTime()).isNotNull());
+        assertThat(roster.bookingsByStatus().get(BookingStatus.CANCELLED))
+            .extracting(RosterEntry::bookingId).containsExactly(fido.id());
+        assertThat(roster.bookingsByStatus().get(BookingStatus.CONFIRMED))
+            .extracting(RosterEntry::bookingId).containsExactly(bella.id());
+
+        bookingService.checkOut(rex.id());
+        bookingService.deleteBooking(bella.id());
+        bookingService.updateBooking(fido.id(), new BookingUpdateRequest(date.plusDays(1), null, null, null));
+
+        roster = rosterService.getRoster(date).response();
+        assertThat(roster.total()).isEqualTo(1);
+        assertThat(roster.bookingsByStatus().get(BookingStatus.CHECKED_OUT))
+            .extracting(RosterEntry::bookingId).containsExactly(rex.id());
+    }
+
+    @Test
+    void repeatedPollsRunNoSqlAndRevalidateWithEtag() throws Exception {
+        book("Poll");
+        String etag = mockMvc.perform(get("/api/v1/bookings/roster/" + date))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/v1/bookings/roster/" + date).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+            mockMvc.perform(get("/api/v1/bookings/roster/" + date))
+                .andExpect(status().isOk());
+        }
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        book("Change");
+        mockMvc.perform(get("/api/v1/bookings/roster/" + date).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk());
+    }
+
+    private BookingResponse book(String dogName) {
+        DogEntity dog = dogRepository.save(DogEntity.builder().name(dogName).user(owner).build());
+        return bookingService.createBooking(new BookingCreateRequest(
+            dog.getId(), owner.getId(), date, LocalTime.of(8, 0), LocalTime.of(16, 0), null
+        ));
+    }
+}
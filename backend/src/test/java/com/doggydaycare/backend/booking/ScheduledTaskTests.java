@@ -0,0 +1,86 @@
+package com.doggydaycare.backend.booking;
+
+import com.doggydaycare.backend.dog.DogEntity;
+import com.doggydaycare.backend.dog.DogRepository;
+import com.doggydaycare.backend.user.Role;
+import com.doggydaycare.backend.user.UserEntity;
+import com.doggydaycare.backend.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ScheduledTaskTests {
+
+    private static final LocalDate TODAY = LocalDate.of(2001, 6, 1);
+
+    @Autowired
+    private ScheduledTask scheduledTask;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private DogRepository dogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void sweepMarksOnlyPastUnattendedConfirmedBookingsInBatches() {
+        UserEntity owner = userRepository.save(UserEntity.builder()
+            .email("sweep@doggydaycare.com")
+            .password("not-used")
+            .mobileNumber("+46709990001")
+            .role(Role.OWNER)
+            .enabled(true)
+            .build());
+
+        // More than one batch of past, unattended bookings
+        int pastCount = ScheduledTask.NO_SHOW_BATCH_SIZE + 3;
+        List<BookingEntity> bookings = new ArrayList<>();
+        for (int i = 0; i < pastCount; i++) {
+            DogEntity dog = dogRepository.save(DogEntity.builder().name("Sweep " + i).user(owner).build());
+            bookings.add(booking(dog, owner, TODAY.minusDays(1), BookingStatus.CONFIRMED));
+        }
+        DogEntity dog = dogRepository.save(DogEntity.builder().name("Sweep today").user(owner).build());
+        BookingEntity today = booking(dog, owner, TODAY, BookingStatus.CONFIRMED);
+        BookingEntity cancelled = booking(dog, owner, TODAY.minusDays(2), BookingStatus.CANCELLED);
+        bookings.add(today);
+        bookings.add(cancelled);
+        bookingRepository.saveAll(bookings);
+
+        ScheduledTask.NoShowSweepResult result = scheduledTask.sweepNoShows(TODAY);
+
+        assertThat(result.affected()).isGreaterThanOrEqualTo(pastCount);
+        assertThat(result.batches()).isGreaterThanOrEqualTo(2);
+        assertThat(statusOf(bookings.getFirst().getId())).isEqualTo(BookingStatus.NO_SHOW);
+        assertThat(statusOf(today.getId())).isEqualTo(BookingStatus.CONFIRMED);
+        assertThat(statusOf(cancelled.getId())).isEqualTo(BookingStatus.CANCELLED);
+    }
+
+    private static BookingEntity booking(DogEntity dog, UserEntity owner, LocalDate date, BookingStatus status) {
+        return BookingEntity.builder()
+            .date(date)
+            .expectedCheckInTime(LocalTime.of(8, 0))
+            .expectedCheckOutTime(LocalTime.of(16, 0))
+            .status(status)
+            .dog(dog)
+            .bookedBy(owner)
+            .build();
+    }
+
+    private BookingStatus statusOf(UUID id) {
+        return bookingRepository.findById(id).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,115 @@
+package com.doggydaycare.backend.config;
+
+import com.doggydaycare.backend.user.UserEntity;
+import com.doggydaycare.backend.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs with the dev profile against its own database and checks the seed data,
+ * including that the pre-hashed dummy passwords match their plain-text values.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:devdata;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles({"test", "dev"})
+class DevDataInitializerTests {
+
+    private static final Map<String, String> DUMMY_PASSWORDS = Map.of(
+        "admin@doggydaycare.com", "admin123",
+        "staff@doggydaycare.com", "staff123",
+        "ownerone@doggydaycare.com", "ownerone123",
+        "ownertwo@doggydaycare.com", "ownertwo123"
+    );
+
+    @Autowired
+    private DevDataInitializer devDataInitializer;
+
+    @Autowired
+    private ScaledDevDataGenerator scaledDataGenerator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void seedsUsersWithMatchingPreHashedPasswords() {
+        DUMMY_PASSWORDS.forEach((email, password) -> {
+            UserEntity user = userRepository.findByEmail(email).orElseThrow();
+            assertThat(passwordEncoder.matches(password, user.getPassword())).as(email).isTrue();
+            assertThat(passwordEncoder.upgradeEncoding(user.getPassword())).as(email).isFalse();
+        });
+    }
+
+    @Test
+    void secondRunOnlyChecksForExistingData() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long before = statistics.getPrepareStatementCount();
+
+        devDataInitializer.run(new DefaultApplicationArguments());
+
+        assertThat(statistics.getPrepareStatementCount() - before).isEqualTo(1);
+    }
+
+    @Test
+    void scaleOptionGeneratesOwnersDogsAndBookingHistoryOnce() {
+        devDataInitializer.run(new DefaultApplicationArguments("--scale=300"));
+        devDataInitializer.run(new DefaultApplicationArguments("--scale=300"));
+
+        assertCompleteScaledData(300);
+    }
+
+    @Test
+    void incompleteScaledDataIsReplaced() {
+        scaledDataGenerator.generate(300);
+        // As if the partition holding the last owner had failed
+        String lastOwner = "SELECT id FROM users WHERE email = '" + ScaledDevDataGenerator.emailFor(299) + "'";
+        jdbcTemplate.update("DELETE FROM bookings WHERE booked_by_id IN (" + lastOwner + ")");
+        jdbcTemplate.update("DELETE FROM dogs WHERE user_id IN (" + lastOwner + ")");
+        jdbcTemplate.update("DELETE FROM booking_owner_stats WHERE owner_id IN (" + lastOwner + ")");
+        jdbcTemplate.update("DELETE FROM users WHERE email = ?", ScaledDevDataGenerator.emailFor(299));
+
+        scaledDataGenerator.generate(300);
+
+        assertCompleteScaledData(300);
+    }
+
+    private void assertCompleteScaledData(int owners) {
+        String scaledOwners = "SELECT id FROM users WHERE email LIKE 'owner-%@scale.doggydaycare.com'";
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + scaledOwners + ") o", Long.class))
+            .isEqualTo(owners);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM dogs WHERE user_id IN (" + scaledOwners + ")", Long.class)).isEqualTo(owners * 2L);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM bookings WHERE booked_by_id IN (" + scaledOwners + ")", Long.class))
+            .isEqualTo(owners * 10L);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM bookings WHERE booked_by_id IN (" + scaledOwners + ") AND date >= CURRENT_DATE",
+            Long.class)).isZero();
+
+        // The rollups were rebuilt from the generated bookings
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT SUM(no_shows) FROM booking_owner_stats WHERE owner_id IN (" + scaledOwners + ")", Long.class))
+            .isEqualTo(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bookings WHERE status = 'NO_SHOW' AND booked_by_id IN (" + scaledOwners + ")",
+                Long.class));
+    }
+}
@@ -0,0 +1,117 @@
+package com.doggydaycare.backend.dog;
+
+import com.doggydaycare.backend.user.Role;
+import com.doggydaycare.backend.user.UserEntity;
+import com.doggydaycare.backend.user.UserRepository;
+import com.doggydaycare.backend.user.UserService;
+import com.doggydaycare.backend.user.UserUpdateRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that Dog and User reads are served from the second-level cache
+ * and that updates and soft deletes are visible on the next read.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DogCacheTests {
+
+    @Autowired
+    private DogService dogService;
+
+    @Autowired
+    private DogRepository dogRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UUID ownerId;
+    private UUID dogId;
+
+    @BeforeEach
+    void seed() {
+        UserEntity owner = userRepository.save(UserEntity.builder()
+            .email("cache-" + UUID.randomUUID() + "@doggydaycare.com")
+            .password("not-used")
+            .firstName("Cache")
+            .role(Role.OWNER)
+            .enabled(true)
+            .build());
+        ownerId = owner.getId();
+        dogId = dogRepository.save(DogEntity.builder().name("Cached").age(3).user(owner).build()).getId();
+    }
+
+    @Test
+    void repeatedLookupsHitTheCache() {
+        dogService.getById(dogId);
+        userService.getById(ownerId);
+        dogService.getByUserId(ownerId);
+
+        assertThat(statementsDuring(() -> dogService.getById(dogId))).isZero();
+        assertThat(statementsDuring(() -> userService.getById(ownerId))).isZero();
+        assertThat(statementsDuring(() -> dogService.getByUserId(ownerId))).isZero();
+    }
+
+    @Test
+    void updatesAndDeletesAreVisibleOnNextRead() {
+        dogService.getById(dogId);
+        dogService.getByUserId(ownerId);
+
+        dogService.update(dogId, new DogUpdateRequest("Renamed", null, null, null));
+        assertThat(dogService.getById(dogId).name()).isEqualTo("Renamed");
+
+        UUID secondDogId = dogService.create(new DogCreateRequest("Second", 2, null, null, ownerId)).id();
+        assertThat(dogService.getByUserId(ownerId)).extracting(DogResponse::id).contains(dogId, secondDogId);
+
+        dogService.delete(dogId);
+        assertThat(dogService.getByUserId(ownerId)).extracting(DogResponse::id).containsExactly(secondDogId);
+
+        userService.getById(ownerId);
+        userService.update(ownerId, new UserUpdateRequest("Changed", null, null, null, null, null));
+        assertThat(userService.getById(ownerId).firstName()).isEqualTo("Changed");
+
+        userService.delete(ownerId);
+        assertThat(userService.getById(ownerId).enabled()).isFalse();
+    }
+
+    @Test
+    void cacheHitsAndMissesArePublishedAsMetrics() {
+        dogService.getById(dogId);
+        dogService.getById(dogId);
+
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+            .tag("region", "dogs")
+            .tag("result", "hit")
+            .functionCounter())
+            .isNotNull()
+            .satisfies(counter -> assertThat(counter.count()).isPositive());
+    }
+
+    private long statementsDuring(Supplier<?> call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long before = statistics.getPrepareStatementCount();
+        call.get();
+        return statistics.getPrepareStatementCount() - before;
+    }
+}
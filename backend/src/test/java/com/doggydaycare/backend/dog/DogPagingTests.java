@@ -0,0 +1,133 @@
+package com.doggydaycare.backend.dog;
+
+import com.doggydaycare.backend.user.Role;
+import com.doggydaycare.backend.user.UserEntity;
+import com.doggydaycare.backend.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Covers the paginated dog listings: deleted dogs are filtered in SQL,
+ * the "has next" mode skips the count query, and a keyset walk visits
+ * every dog exactly once.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DogPagingTests {
+
+    private static final int DOGS = 25;
+
+    @Autowired
+    private DogService dogService;
+
+    @Autowired
+    private DogRepository dogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<UUID> liveDogIds = new ArrayList<>();
+    private UUID deletedDogId;
+
+    @BeforeAll
+    void seedDogs() {
+        UserEntity owner = userRepository.save(UserEntity.builder()
+            .email("paging@doggydaycare.com")
+            .password("not-used")
+            .mobileNumber("+46709990003")
+            .role(Role.OWNER)
+            .enabled(true)
+            .build());
+
+        for (int i = 0; i < DOGS; i++) {
+            // Same name for several dogs so the id tie-breaker is exercised
+            DogEntity dog = dogRepository.save(DogEntity.builder().name("Paging " + (i % 5)).age(i).user(owner).build());
+            liveDogIds.add(dog.getId());
+        }
+        DogEntity deleted = DogEntity.builder().name("Paging deleted").user(owner).build();
+        deleted.setDeleted(true);
+        deletedDogId = dogRepository.save(deleted).getId();
+    }
+
+    @Test
+    void pageWithoutCountRunsSingleStatement() {
+        Statistics statistics = statistics();
+        long before = statistics.getPrepareStatementCount();
+
+        DogPageResponse page = dogService.getPage(PageRequest.of(0, 10), false);
+
+        assertThat(statistics.getPrepareStatementCount() - before).isEqualTo(1);
+        assertThat(page.items()).hasSize(10);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.totalElements()).isNull();
+    }
+
+    @Test
+    void pageWithCountReportsTotalOfLiveDogs() {
+        DogPageResponse page = dogService.getPage(PageRequest.of(0, 10, Sort.by("age")), true);
+
+        assertThat(page.totalElements()).isEqualTo(dogRepository.findAll().stream().filter(d -> !d.isDeleted()).count());
+        assertThat(page.items()).extracting(DogResponse::id).doesNotContain(deletedDogId);
+    }
+
+    @Test
+    void keysetWalkVisitsEveryLiveDogOnceInNameOrder() {
+        List<DogResponse> visited = new ArrayList<>();
+        DogKeysetPageResponse page = dogService.getKeysetPage(null, null, 7);
+        visited.addAll(page.items());
+        while (page.hasNext()) {
+            page = dogService.getKeysetPage(page.nextAfterName(), page.nextAfterId(), 7);
+            visited.addAll(page.items());
+        }
+
+        assertThat(visited).extracting(DogResponse::id)
+            .doesNotHaveDuplicates()
+            .containsAll(liveDogIds)
+            .doesNotContain(deletedDogId);
+        assertThat(visited).extracting(DogResponse::name).isSortedAccordingTo(Comparator.naturalOrder());
+    }
+
+    @Test
+    void getAllReturnsEveryLiveDogInOneStatement() {
+        long liveDogs = dogRepository.findAll().stream().filter(d -> !d.isDeleted()).count();
+        Statistics statistics = statistics();
+        long before = statistics.getPrepareStatementCount();
+
+        List<DogResponse> dogs = dogService.getAll();
+
+        assertThat(statistics.getPrepareStatementCount() - before).isEqualTo(1);
+        assertThat(dogs).hasSize((int) liveDogs);
+        assertThat(dogs).extracting(DogResponse::id).containsAll(liveDogIds).doesNotContain(deletedDogId);
+    }
+
+    @Test
+    void unknownSortPropertyIsRejected() {
+        assertThatThrownBy(() -> dogService.getPage(PageRequest.of(0, 10, Sort.by("dogInfo")), false))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,53 @@
+package com.doggydaycare.backend.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Service timings, per-request statement counts, result sizes, pool and
+ * scheduled-task metrics are all published on the Prometheus endpoint.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MetricsTests {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private RequestStatementMetricsFilter statementMetricsFilter;
+
+    @Test
+    void prometheusEndpointExposesBookingHotPathMetrics() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context)
+            .addFilters(statementMetricsFilter)
+            .build();
+
+        mockMvc.perform(get("/api/v1/bookings/date/2039-01-01")).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape.lines())
+            .anyMatch(line -> line.startsWith("booking_service_seconds_bucket{")
+                && line.contains("method=\"getBookingsByDate\""))
+            .anyMatch(line -> line.startsWith("http_server_requests_statements_sum{")
+                && line.contains("uri=\"/api/v1/bookings/date/{date}\"")
+                && !line.endsWith(" 0.0"))
+            .anyMatch(line -> line.startsWith("http_server_response_items_count{")
+                && line.contains("uri=\"/api/v1/bookings/date/{date}\""))
+            .anyMatch(line -> line.startsWith("hikaricp_connections_pending"))
+            .anyMatch(line -> line.startsWith("booking_no_show_sweep_rows"))
+            .anyMatch(line -> line.startsWith("booking_no_show_sweep_duration_seconds"));
+    }
+}
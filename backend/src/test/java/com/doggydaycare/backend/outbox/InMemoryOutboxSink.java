@@ -0,0 +1,36 @@
+package com.doggydaycare.backend.outbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test stand-in for a real outbox sink: keeps what it receives in memory
+ * and can be told to fail the next few sends.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxMessage> received = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+
+    @Override
+    public void send(OutboxMessage message) {
+        if (failuresLeft.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+            throw new IllegalStateException("Sink unavailable");
+        }
+        received.add(message);
+    }
+
+    public List<OutboxMessage> received() {
+        return List.copyOf(received);
+    }
+
+    public void failNext(int sends) {
+        failuresLeft.set(sends);
+    }
+
+    public void clear() {
+        received.clear();
+        failuresLeft.set(0);
+    }
+}
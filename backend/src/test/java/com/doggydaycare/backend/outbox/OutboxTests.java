@@ -0,0 +1,207 @@
+package com.doggydaycare.backend.outbox;
+
+import com.doggydaycare.backend.booking.BookingCreateRequest;
+import com.doggydaycare.backend.booking.BookingResponse;
+import com.doggydaycare.backend.booking.BookingService;
+import com.doggydaycare.backend.dog.DogEntity;
+import com.doggydaycare.backend.dog.DogRepository;
+import com.doggydaycare.backend.user.Role;
+import com.doggydaycare.backend.user.UserEntity;
+import com.doggydaycare.backend.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox rows are written with the booking change and dispatched in order,
+ * with failed sends retried after a backoff and dispatched rows purged after retention.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:outbox;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    // Short delays so the retry tests wait out the backoff in well under a second
+    "daycare.outbox.initial-backoff=100ms",
+    "daycare.outbox.max-backoff=400ms"
+})
+@ActiveProfiles("test")
+@Import(InMemoryOutboxSink.class)
+class OutboxTests {
+
+    private static final LocalDate DATE = LocalDate.of(2036, 2, 2);
+
+    @Autowired
+    private InMemoryOutboxSink sink;
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private DogRepository dogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UserEntity owner;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher.dispatchPending();
+        sink.clear();
+        owner = userRepository.save(UserEntity.builder()
+            .email("outbox-" + UUID.randomUUID() + "@doggydaycare.com")
+            .password("not-used")
+            .role(Role.OWNER)
+            .enabled(true)
+            .build());
+    }
+
+    @Test
+    void eventsAreWrittenWithTheChangeAndDispatchedInOrder() {
+        BookingResponse booking = book();
+        bookingService.checkIn(booking.id());
+        bookingService.checkOut(booking.id());
+
+        assertThat(outboxEventRepository.findByAggregateIdOrderByCreatedAt(booking.id()))
+            .extracting(OutboxEventEntity::getEventType)
+            .containsExactly("CREATED", "CHECKED_IN", "CHECKED_OUT");
+
+        double dispatchedBefore = meterRegistry.get("outbox.events.dispatched").counter().count();
+        dispatcher.dispatchPending();
+
+        assertThat(sink.received())
+            .extracting(OutboxMessage::eventType)
+            .containsExactly("CREATED", "CHECKED_IN", "CHECKED_OUT");
+        assertThat(sink.received().getFirst().payload()).contains(booking.id().toString());
+        assertThat(outboxEventRepository.findByAggregateIdOrderByCreatedAt(booking.id()))
+            .allSatisfy(event -> assertThat(event.getDispatchedAt()).isNotNull());
+        assertThat(meterRegistry.get("outbox.events.dispatched").counter().count() - dispatchedBefore).isEqualTo(3);
+        assertThat(meterRegistry.get("outbox.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void rolledBackChangeLeavesNoEvent() {
+        long before = outboxEventRepository.count();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            book();
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxEventRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    void failedSendIsRetriedAfterTheBackoff() {
+        BookingResponse booking = book();
+        bookingService.cancelBooking(booking.id());
+
+        sink.failNext(1);
+        dispatcher.dispatchPending();
+        dispatcher.dispatchPending();
+
+        // The failed create is backing off, and the cancel waits behind it instead of overtaking it
+        assertThat(sink.received()).isEmpty();
+        assertThat(outboxEventRepository.findByAggregateIdOrderByCreatedAt(booking.id()).getFirst())
+            .satisfies(event -> {
+                assertThat(event.getAttempts()).isEqualTo(1);
+                assertThat(event.getLastError()).contains("Sink unavailable");
+                assertThat(event.getNextAttemptAt()).isAfter(event.getCreatedAt());
+            });
+        assertThat(meterRegistry.get("outbox.pending").gauge().value()).isEqualTo(2);
+
+        pollUntilReceived(2);
+
+        assertThat(sink.received())
+            .extracting(OutboxMessage::eventType)
+            .containsExactly("CREATED", "CANCELLED");
+    }
+
+    @Test
+    void eventIsDeliveredAfterTheSinkFailsForSeveralPolls() {
+        BookingResponse booking = book();
+
+        sink.failNext(4);
+        pollUntilReceived(1);
+
+        assertThat(sink.received())
+            .extracting(OutboxMessage::aggregateId)
+            .containsExactly(booking.id());
+        assertThat(outboxEventRepository.findByAggregateIdOrderByCreatedAt(booking.id()).getFirst())
+            .satisfies(event -> {
+                assertThat(event.getAttempts()).isEqualTo(4);
+                assertThat(event.getDispatchedAt()).isNotNull();
+            });
+    }
+
+    @Test
+    void backoffDoublesUpToTheCap() {
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofMillis(100));
+        assertThat(dispatcher.backoff(2)).isEqualTo(Duration.ofMillis(200));
+        assertThat(dispatcher.backoff(3)).isEqualTo(Duration.ofMillis(400));
+        assertThat(dispatcher.backoff(4)).isEqualTo(Duration.ofMillis(400));
+        assertThat(dispatcher.backoff(1000)).isEqualTo(Duration.ofMillis(400));
+    }
+
+    @Test
+    void purgeDeletesOnlyEventsDispatchedBeforeTheCutoff() {
+        BookingResponse dispatchedBooking = book();
+        dispatcher.dispatchPending();
+        BookingResponse pendingBooking = book();
+
+        int purged = dispatcher.purgeDispatchedBefore(LocalDateTime.now().plusSeconds(1));
+
+        assertThat(purged).isGreaterThanOrEqualTo(1);
+        assertThat(outboxEventRepository.findByAggregateIdOrderByCreatedAt(dispatchedBooking.id())).isEmpty();
+        assertThat(outboxEventRepository.findByAggregateIdOrderByCreatedAt(pendingBooking.id()))
+            .extracting(OutboxEventEntity::getEventType)
+            .containsExactly("CREATED");
+        assertThat(dispatcher.purgeDispatchedBefore(LocalDateTime.now().minusDays(1))).isZero();
+    }
+
+    /**
+     * Polls like the scheduled dispatcher would until the sink has received the given number of events.
+     */
+    private void pollUntilReceived(int events) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (sink.received().size() < events && System.nanoTime() < deadline) {
+            dispatcher.dispatchPending();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private BookingResponse book() {
+        DogEntity dog = dogRepository.save(DogEntity.builder().name("Outbox").user(owner).build());
+        return bookingService.createBooking(new BookingCreateRequest(
+            dog.getId(), owner.getId(), DATE, LocalTime.of(8, 0), LocalTime.of(16, 0), null
+        ));
+    }
+}
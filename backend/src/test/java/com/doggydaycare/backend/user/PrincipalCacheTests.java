@@ -0,0 +1,95 @@
+package com.doggydaycare.backend.user;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that repeated authentications are served from the principal cache
+ * and that email changes, disabling and soft deletes are seen right away.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PrincipalCacheTests {
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UUID userId;
+    private String email;
+
+    @BeforeEach
+    void seed() {
+        email = "principal-" + UUID.randomUUID() + "@doggydaycare.com";
+        userId = userRepository.save(UserEntity.builder()
+            .email(email)
+            .password("hashed")
+            .role(Role.OWNER)
+            .enabled(true)
+            .build()).getId();
+    }
+
+    @Test
+    void repeatedLookupsSkipTheDatabase() {
+        userDetailsService.loadUserByUsername(email);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long before = statistics.getPrepareStatementCount();
+        UserDetails details = userDetailsService.loadUserByUsername(email);
+
+        assertThat(statistics.getPrepareStatementCount() - before).isZero();
+        assertThat(details.getPassword()).isEqualTo("hashed");
+        assertThat(details.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_OWNER");
+        assertThat(meterRegistry.get("auth.principal.lookup").tag("cache", "hit").timer().count()).isPositive();
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "hit")
+            .functionCounter().count()).isPositive();
+    }
+
+    @Test
+    void emailChangeEvictsTheOldEmail() {
+        userDetailsService.loadUserByUsername(email);
+
+        String newEmail = "moved-" + email;
+        userService.update(userId, new UserUpdateRequest(null, null, newEmail, null, null, null));
+
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername(email))
+            .isInstanceOf(UsernameNotFoundException.class);
+        assertThat(userDetailsService.loadUserByUsername(newEmail).getUsername()).isEqualTo(newEmail);
+    }
+
+    @Test
+    void disableAndDeleteAreSeenOnNextLookup() {
+        assertThat(userDetailsService.loadUserByUsername(email).isEnabled()).isTrue();
+
+        userService.update(userId, new UserUpdateRequest(null, null, null, null, null, false));
+        assertThat(userDetailsService.loadUserByUsername(email).isEnabled()).isFalse();
+
+        userService.delete(userId);
+        assertThat(userDetailsService.loadUserByUsername(email).isAccountNonLocked()).isFalse();
+    }
+}
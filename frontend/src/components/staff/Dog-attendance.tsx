@@ -27,15 +27,44 @@ export default function DogAttendance() {
   const [dogs, setDogs] = useState<Map<string, DogResponse>>(new Map());
   const [loading, setLoading] = useState(true);
 
+  // Get current week days
+  const getWeekDays = () => {
+    const start = startOfWeek(currentDate, { weekStartsOn: 1 }); // Monday = 1
+    return Array.from({ length: 5 }, (_, i) => { // Only weekdays (Mon-Fri)
+      const date = addDays(start, i);
+      return {
+        date,
+        dayName: format(date, 'EEEE'), // Monday, Tuesday, etc.
+        shortDate: format(date, 'MMM d'), // Dec 30
+        dateStr: format(date, 'yyyy-MM-dd')
+      };
+    });
+  };
+
+  const weekDays = getWeekDays();
+  const currentDateStr = format(currentDate, 'yyyy-MM-dd');
+
+  // Dates shown in the day and week views; the current day may fall on a weekend
+  const visibleDates = weekDays.map(day => day.dateStr);
+  if (!visibleDates.includes(currentDateStr)) {
+    visibleDates.push(currentDateStr);
+  }
+  const visibleDatesKey = visibleDates.join(',');
+
+  // Fetch bookings for the visible dates only, one request per date in parallel
+  const fetchBookings = async (dates: string[]) => {
+    const perDate = await Promise.all(dates.map(date => bookingApi.getByDate(date)));
+    return perDate.flat();
+  };
+
   // ---------- Fetch data ----------
   useEffect(() => {
     const fetchData = async () => {
       try {
         setLoading(true);
 
-        // Fetch all bookings, users, and dogs in parallel
-        const [bookingsRes, usersRes, dogsRes] = await Promise.all([
-          bookingApi.getAll(),
+        // Fetch users and dogs in parallel
+        const [usersRes, dogsRes] = await Promise.all([
           userApi.getAll(),
           dogApi.getAll()
         ]);
@@ -44,7 +73,6 @@ export default function DogAttendance() {
         const usersMap = new Map(usersRes.map(u => [u.id, u]));
         const dogsMap = new Map(dogsRes.map(d => [d.id, d]));
 
-        setBookings(bookingsRes);
         setUsers(usersMap);
         setDogs(dogsMap);
       } catch (error) {
@@ -57,27 +85,28 @@ export default function DogAttendance() {
     fetchData();
   }, []);
 
-  // Get current week days
-  const getWeekDays = () => {
-    const start = startOfWeek(currentDate, { weekStartsOn: 1 }); // Monday = 1
-    return Array.from({ length: 5 }, (_, i) => { // Only weekdays (Mon-Fri)
-      const date = addDays(start, i);
-      return {
-        date,
-        dayName: format(date, 'EEEE'), // Monday, Tuesday, etc.
-        shortDate: format(date, 'MMM d'), // Dec 30
-        dateStr: format(date, 'yyyy-MM-dd')
-      };
-    });
-  };
+  // Re-fetch bookings whenever the visible days change
+  useEffect(() => {
+    let cancelled = false;
+
+    fetchBookings(visibleDatesKey.split(','))
+      .then(bookingsRes => {
+        if (!cancelled) {
+          setBookings(bookingsRes);
+        }
+      })
+      .catch(error => console.error('Error fetching bookings:', error));
+
+    return () => {
+      cancelled = true;
+    };
+  }, [visibleDatesKey]);
 
-  const weekDays = getWeekDays();
   const weekNumber = Number.parseInt(format(currentDate, 'I'));
   const year = format(currentDate, 'yyyy');
   const currentDayName = format(currentDate, 'EEEE');
   const currentDayFormatted = format(currentDate, 'EEEE, MMM d');
   const currentDayIndex = currentDate.getTime();
-  const currentDateStr = format(currentDate, 'yyyy-MM-dd');
 
   // Filter bookings for the current day
   const bookingsForToday = bookings.filter(booking =>
@@ -162,7 +191,7 @@ export default function DogAttendance() {
       }
 
       // Refresh bookings
-      const bookingsRes = await bookingApi.getAll();
+      const bookingsRes = await fetchBookings(visibleDates);
       setBookings(bookingsRes);
     } catch (error) {
       console.error('Error toggling check-in:', error);